@@ -0,0 +1,87 @@
+-- Benchmark dos filtros LIKE '%termo%' antes e depois dos índices trigram (V12).
+--
+-- Usa um schema separado (bench) com 1 milhão de membros e 1 milhão de tarefas,
+-- sem tocar nas tabelas da aplicação. Para rodar no container do docker-compose:
+--
+--   docker compose exec -T db psql -U "$DB_USER" -d "$DB_NAME" -f - < scripts/benchmark/trigram_search.sql
+--
+-- Compare o "Execution Time" de cada consulta nas seções ANTES e DEPOIS.
+--
+-- Resultado no Postgres 15.8 embutido dos testes (io.zonky, 1M linhas por
+-- tabela, menor "Execution Time" de 3 execuções):
+--
+--   consulta                                   antes (Seq Scan)   depois (Bitmap/GIN)
+--   member lower(name)       LIKE '%3f2a9%'          279,4 ms           0,7 ms
+--   member lower(email)      LIKE '%membro12345@%'   246,6 ms          13,4 ms
+--   member lower(department) LIKE '%jurídico 42%'    199,8 ms          10,8 ms
+--   task   lower(project)    LIKE '%data lake 1999%' 195,5 ms           8,4 ms
+--   task   lower(title)      LIKE '%9bf31%'          241,9 ms           0,7 ms
+--
+-- Antes, todas as consultas foram Parallel Seq Scan. Os índices levaram de
+-- 2 a 9 s cada para serem criados.
+
+\set ON_ERROR_STOP on
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.member (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    department VARCHAR(255)
+);
+
+CREATE TABLE bench.task (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    title VARCHAR(255) NOT NULL,
+    project VARCHAR(255),
+    assignee_id UUID
+);
+
+INSERT INTO bench.member (name, email, department)
+SELECT 'Membro ' || md5(i::text),
+       'membro' || i || '@' || (ARRAY['ustore.com', 'empresa.com.br', 'exemplo.org'])[1 + i % 3],
+       (ARRAY['Tecnologia', 'Financeiro', 'Recursos Humanos', 'Jurídico', 'Comercial', 'Operações'])[1 + i % 6]
+           || ' ' || (i % 500)
+FROM generate_series(1, 1000000) AS i;
+
+INSERT INTO bench.task (title, project, assignee_id)
+SELECT 'Tarefa ' || md5(i::text),
+       (ARRAY['Portal RH', 'Performance Jurídica', 'WebApp', 'Mobile', 'Data Lake'])[1 + i % 5] || ' ' || (i % 2000),
+       NULL
+FROM generate_series(1, 1000000) AS i;
+
+ANALYZE bench.member;
+ANALYZE bench.task;
+
+\echo '==================== ANTES (sem índices trigram) ===================='
+
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.member WHERE lower(name) LIKE '%3f2a9%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.member WHERE lower(email) LIKE '%membro12345@%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.member WHERE lower(department) LIKE '%jurídico 42%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.task WHERE lower(project) LIKE '%data lake 1999%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.task WHERE lower(title) LIKE '%9bf31%';
+
+-- Mesmas definições da migration V12.
+CREATE INDEX idx_bench_member_name_trgm ON bench.member USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX idx_bench_member_email_trgm ON bench.member USING GIN (lower(email) gin_trgm_ops);
+CREATE INDEX idx_bench_member_department_trgm ON bench.member USING GIN (lower(department) gin_trgm_ops);
+CREATE INDEX idx_bench_task_project_trgm ON bench.task USING GIN (lower(project) gin_trgm_ops);
+CREATE INDEX idx_bench_task_title_trgm ON bench.task USING GIN (lower(title) gin_trgm_ops);
+
+ANALYZE bench.member;
+ANALYZE bench.task;
+
+\echo '==================== DEPOIS (com índices trigram) ===================='
+
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.member WHERE lower(name) LIKE '%3f2a9%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.member WHERE lower(email) LIKE '%membro12345@%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.member WHERE lower(department) LIKE '%jurídico 42%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.task WHERE lower(project) LIKE '%data lake 1999%';
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench.task WHERE lower(title) LIKE '%9bf31%';
+
+DROP SCHEMA bench CASCADE;
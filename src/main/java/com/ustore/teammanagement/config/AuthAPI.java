@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -71,6 +72,11 @@ public interface AuthAPI {
                                     )
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "429",
+                            description = "Muitas tentativas de login para o email ou IP — aguarde o tempo do header Retry-After",
+                            content = @Content
+                    ),
                     @ApiResponse(
                             responseCode = "403",
                             description = "Usuário desativado ou sem permissão",
@@ -88,8 +94,20 @@ public interface AuthAPI {
             }
     )
     @PostMapping("/login")
-    ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request);
+    ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request, HttpServletRequest httpRequest);
+
 
+    @Operation(summary = "Renovar tokens",
+            description = "Troca um refresh token válido por um novo par de tokens. O refresh token usado deixa de valer; " +
+                    "reapresentá-lo revoga toda a sessão originada no mesmo login.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens renovados com sucesso",
+                    content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Refresh token ausente", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado, revogado ou reutilizado", content = @Content)
+    })
+    @PostMapping("/refresh-token")
+    ResponseEntity<LoginResponse> refreshToken(@RequestBody @Valid RefreshToken request);
 
     @Operation(summary = "Solicita recuperação de senha",
             description = "Gera um token de recuperação para o email informado")
@@ -1,8 +1,9 @@
 package com.ustore.teammanagement.config;
 
-import com.ustore.teammanagement.payload.dto.response.ActivityResponse;
+import com.ustore.teammanagement.payload.dto.response.ActivityCursorPage;
 import com.ustore.teammanagement.payload.dto.response.DashboardResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,7 +11,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.List;
+import java.util.UUID;
 
 @Tag(
         name = "Dashboard",
@@ -45,8 +46,10 @@ public interface DashboardAPI {
     @Operation(
             summary = "Obter atividades recentes",
             description = """
-            Retorna uma lista com as 5 atividades mais recentes.
-            Cada atividade representa uma tarefa criada ou atualizada recentemente.
+            Retorna as atividades mais recentes (5 por padrão, até 100), da mais nova para a mais antiga.
+            Cada atividade registra uma tarefa criada, atualizada ou concluída e quem fez a ação.
+            - project / actorId: filtram por projeto e por membro
+            - cursor: valor de nextCursor da página anterior
             """,
             responses = {
                     @ApiResponse(
@@ -54,11 +57,17 @@ public interface DashboardAPI {
                             description = "Lista de atividades recentes retornada com sucesso",
                             content = @Content(
                                     mediaType = "application/json",
-                                    schema = @Schema(implementation = ActivityResponse.class)
+                                    schema = @Schema(implementation = ActivityCursorPage.class)
                             )
-                    )
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Cursor inválido")
             }
     )
     @GetMapping("/api/dashboard/recent-activities")
-    ResponseEntity<List<ActivityResponse>> getRecentActivities();
+    ResponseEntity<ActivityCursorPage> getRecentActivities(
+            @Parameter(description = "Projeto") String project,
+            @Parameter(description = "ID do membro que fez a ação") UUID actorId,
+            @Parameter(description = "Cursor da próxima página") String cursor,
+            @Parameter(description = "Tamanho da página (máx. 100)") int size
+    );
 }
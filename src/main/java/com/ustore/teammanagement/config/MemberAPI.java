@@ -1,5 +1,6 @@
 package com.ustore.teammanagement.config;
 
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Role;
 import com.ustore.teammanagement.payload.dto.request.MemberRequest;
@@ -90,7 +91,8 @@ public interface MemberAPI {
     ResponseEntity<MemberResponse> updateMember(
             @Parameter(description = "ID of the member to be updated", required = true)
             @PathVariable UUID id,
-            @Valid @RequestBody MemberUpdateRequest dto
+            @Valid @RequestBody MemberUpdateRequest dto,
+            @Parameter(hidden = true) Member memberLogado
     ) throws AccessDeniedException;
 
     @Operation(
@@ -107,6 +109,7 @@ public interface MemberAPI {
     @DeleteMapping("/{id}")
     void inactivate(
             @Parameter(description = "ID of the member to inactivate", required = true)
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @Parameter(hidden = true) Member memberLogado
     ) throws AccessDeniedException;
 }
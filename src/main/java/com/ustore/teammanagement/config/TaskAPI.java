@@ -1,9 +1,16 @@
 package com.ustore.teammanagement.config;
 
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.enums.FilterMatch;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.payload.dto.request.TaskBatchRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskBulkUpdateRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskUpdateRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskBulkUpdateResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskCursorPage;
 import com.ustore.teammanagement.payload.dto.response.TaskResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +21,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -34,11 +42,30 @@ public interface TaskAPI {
             }
     )
     @PostMapping
-    ResponseEntity<TaskResponse> createTask(TaskRequest request);
+    ResponseEntity<TaskResponse> createTask(TaskRequest request, @Parameter(hidden = true) Member memberLogado);
+
+    @Operation(
+            summary = "Create tasks in batch",
+            description = "Allows ADMIN and MANAGER users to create up to 1000 tasks in one request. " +
+                    "Each task is validated on its own: valid tasks are created and the response lists " +
+                    "the id or the errors of every item, in request order.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "All tasks created",
+                            content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+                    @ApiResponse(responseCode = "207", description = "Some tasks were rejected; see the item errors",
+                            content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty batch or more than 1000 tasks"),
+                    @ApiResponse(responseCode = "403", description = "Access denied")
+            }
+    )
+    @PostMapping("/batch")
+    ResponseEntity<TaskBatchResponse> createTasks(TaskBatchRequest request, @Parameter(hidden = true) Member memberLogado);
 
     @Operation(
             summary = "Filter tasks",
-            description = "Filters tasks by title, project, priority, status, assignee, due date, etc.",
+            description = "Filters tasks by title, project, priority, status, assignee, due date, etc. " +
+                    "Filters are combined with AND; use match=any to combine them with OR. " +
+                    "q runs a full-text search over title, tags and description, ranked by relevance when no sort is given.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Filtered list of tasks",
                             content = @Content(schema = @Schema(implementation = Page.class)))
@@ -55,9 +82,39 @@ public interface TaskAPI {
             @RequestParam(required = false) LocalDate dueDateFrom,
             @RequestParam(required = false) LocalDate dueDateTo,
             @RequestParam(required = false) Boolean onlyOverdue,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ALL") FilterMatch match,
             @ParameterObject Pageable pageable
     );
 
+    @Operation(
+            summary = "Scroll tasks with a cursor",
+            description = "Same filters as GET /tasks, ordered by (createdAt, id) without a total count. " +
+                    "Pass the returned nextCursor to fetch the following page.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of tasks and the next cursor",
+                            content = @Content(schema = @Schema(implementation = TaskCursorPage.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    @GetMapping("/scroll")
+    ResponseEntity<TaskCursorPage> scrollTasks(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String project,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) String assigneeName,
+            @RequestParam(required = false) String createdByName,
+            @RequestParam(required = false) LocalDate dueDateFrom,
+            @RequestParam(required = false) LocalDate dueDateTo,
+            @RequestParam(required = false) Boolean onlyOverdue,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ALL") FilterMatch match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction
+    );
+
 
     @Operation(
             summary = "Update an existing task",
@@ -79,10 +136,27 @@ public interface TaskAPI {
             @Parameter(description = "Task ID", required = true)
             UUID id,
             @Parameter(description = "Task data to update", required = true)
-            TaskUpdateRequest request
+            TaskUpdateRequest request,
+            @Parameter(hidden = true) Member memberLogado
     );
 
 
+    @Operation(
+            summary = "Update tasks in bulk",
+            description = "Allows ADMIN and MANAGER users to change status, priority or assignee of many tasks at once. " +
+                    "Targets either a list of ids or a filter (same criteria as GET /tasks, combined with AND). " +
+                    "Without a new assignee, tasks assigned to inactive members are skipped.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks updated",
+                            content = @Content(schema = @Schema(implementation = TaskBulkUpdateResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Missing target or change set"),
+                    @ApiResponse(responseCode = "403", description = "Access denied"),
+                    @ApiResponse(responseCode = "404", description = "Assignee not found")
+            }
+    )
+    @PatchMapping("/bulk")
+    ResponseEntity<TaskBulkUpdateResponse> updateTasks(TaskBulkUpdateRequest request, @Parameter(hidden = true) Member memberLogado);
+
     @Operation(
             summary = "Delete a task",
             description = "Allows ADMIN and MANAGER users to delete a task.",
@@ -93,5 +167,6 @@ public interface TaskAPI {
             }
     )
     @DeleteMapping("/{id}")
-    ResponseEntity<Void> deleteTask(@Parameter(description = "Task ID") UUID id);
+    ResponseEntity<Void> deleteTask(@Parameter(description = "Task ID") UUID id,
+                                    @Parameter(hidden = true) Member memberLogado);
 }
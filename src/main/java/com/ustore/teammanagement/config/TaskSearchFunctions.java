@@ -0,0 +1,32 @@
+package com.ustore.teammanagement.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.function.SqlColumn;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+// Funções de busca textual do Postgres usadas pela TaskSpecification.withSearch.
+// O Criteria não expressa o operador @@, então ele é registrado como função.
+// search_vector não é mapeada em Task (não entra em todo SELECT): VECTOR
+// recebe o id da tarefa e gera <alias>.search_vector.
+public class TaskSearchFunctions implements FunctionContributor {
+
+    public static final String VECTOR = "task_search_vector";
+    public static final String MATCH = "task_search_match";
+    public static final String RANK = "task_search_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().register(VECTOR,
+                new SqlColumn("search_vector", types.resolve(StandardBasicTypes.STRING)));
+        functionContributions.getFunctionRegistry().registerPattern(MATCH,
+                "(?1 @@ websearch_to_tsquery('portuguese', ?2))",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(RANK,
+                "ts_rank(?1, websearch_to_tsquery('portuguese', ?2))",
+                types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
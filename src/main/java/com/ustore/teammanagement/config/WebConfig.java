@@ -0,0 +1,31 @@
+package com.ustore.teammanagement.config;
+
+import com.ustore.teammanagement.core.enums.FilterMatch;
+import com.ustore.teammanagement.security.CurrentMemberArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentMemberArgumentResolver currentMemberArgumentResolver;
+
+    public WebConfig(CurrentMemberArgumentResolver currentMemberArgumentResolver) {
+        this.currentMemberArgumentResolver = currentMemberArgumentResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentMemberArgumentResolver);
+    }
+
+    // Aceita match=any / match=all sem diferenciar maiúsculas.
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, FilterMatch.class, FilterMatch::from);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ustore.teammanagement.core.Specifications;
+
+import com.ustore.teammanagement.core.entity.Activity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public class ActivitySpecification {
+
+    private ActivitySpecification() {
+        throw new UnsupportedOperationException("Classe utilitária, não instancie.");
+    }
+
+    // Igualdade exata, para usar idx_activity_project_created_at_id.
+    public static Specification<Activity> withProject(String project) {
+        return (root, query, cb) ->
+                project == null || project.isBlank() ? null : cb.equal(root.get("project"), project);
+    }
+
+    public static Specification<Activity> withActorId(UUID actorId) {
+        return (root, query, cb) ->
+                actorId == null ? null : cb.equal(root.get("actorId"), actorId);
+    }
+}
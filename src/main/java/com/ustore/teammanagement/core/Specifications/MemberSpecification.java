@@ -12,18 +12,15 @@ public class MemberSpecification {
     }
 
     public static Specification<Member> withName(String name) {
-        return (root, query, cb) ->
-                name == null ? null : cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+        return TextSpecification.containsIgnoreCase("name", name);
     }
 
     public static Specification<Member> withEmail(String email) {
-        return (root, query, cb) ->
-                email == null ? null : cb.like(cb.lower(root.get("email")), "%" + email.toLowerCase() + "%");
+        return TextSpecification.containsIgnoreCase("email", email);
     }
 
     public static Specification<Member> withDepartment(String department) {
-        return (root, query, cb) ->
-                department == null ? null : cb.like(cb.lower(root.get("department")), "%" + department.toLowerCase() + "%");
+        return TextSpecification.containsIgnoreCase("department", department);
     }
 
     public static Specification<Member> withStatus(MemberStatus status) {
@@ -1,12 +1,23 @@
 package com.ustore.teammanagement.core.Specifications;
 
+import com.ustore.teammanagement.config.TaskSearchFunctions;
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.FilterMatch;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 public class TaskSpecification {
 
@@ -17,10 +28,22 @@ public class TaskSpecification {
     private static final String DUE_DATE = "dueDate";
 
     public static Specification<Task> withTitle(String title) {
+        return TextSpecification.containsIgnoreCase("title", title);
+    }
+
+    // Busca textual em título, tags e descrição (GIN em search_vector). Sem
+    // ordenação explícita na página, os resultados vêm pela relevância.
+    public static Specification<Task> withSearch(String q) {
         return (root, query, cb) -> {
-            if (title == null || title.isBlank()) return null;
-            String like = "%" + title.toLowerCase() + "%";
-            return cb.like(cb.lower(root.get("title")), like);
+            if (q == null || q.isBlank()) return null;
+
+            Expression<String> vector = cb.function(TaskSearchFunctions.VECTOR, String.class, root.get("id"));
+            Expression<String> term = cb.literal(q.trim());
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class
+                    && query.getOrderList().isEmpty()) {
+                query.orderBy(cb.desc(cb.function(TaskSearchFunctions.RANK, Double.class, vector, term)));
+            }
+            return cb.isTrue(cb.function(TaskSearchFunctions.MATCH, Boolean.class, vector, term));
         };
     }
 
@@ -29,33 +52,50 @@ public class TaskSpecification {
                 status == null ? null : cb.equal(root.get("status"), status);
     }
 
+    // LATE calculado na leitura: LATE casa com as tarefas em aberto já vencidas
+    // e os status em aberto deixam de casar com elas.
+    public static Specification<Task> withStatus(TaskStatus status, boolean derivedLate) {
+        if (!derivedLate) {
+            return withStatus(status);
+        }
+        return (root, query, cb) -> {
+            if (status == null) return null;
+
+            Path<TaskStatus> statusPath = root.get("status");
+            Path<LocalDate> dueDate = root.get(DUE_DATE);
+            LocalDate today = LocalDate.now();
+            if (status == TaskStatus.LATE) {
+                Predicate overdue = cb.and(statusPath.in(TaskStatus.OPEN), cb.lessThan(dueDate, today));
+                return cb.or(cb.equal(statusPath, TaskStatus.LATE), overdue);
+            }
+            if (TaskStatus.OPEN.contains(status)) {
+                return cb.and(cb.equal(statusPath, status),
+                        cb.or(cb.isNull(dueDate), cb.greaterThanOrEqualTo(dueDate, today)));
+            }
+            return cb.equal(statusPath, status);
+        };
+    }
+
     public static Specification<Task> withPriority(Priority priority) {
         return (root, query, cb) ->
                 priority == null ? null : cb.equal(root.get("priority"), priority);
     }
 
     public static Specification<Task> withProject(String project) {
-        return (root, query, cb) -> {
-            if (project == null || project.isBlank()) return null;
-            String like = "%" + project.toLowerCase() + "%";
-            return cb.like(cb.lower(root.get("project")), like);
-        };
+        return TextSpecification.containsIgnoreCase("project", project);
+    }
+
+    public static Specification<Task> withAssigneeId(UUID assigneeId) {
+        return (root, query, cb) ->
+                assigneeId == null ? null : cb.equal(root.get("assignee").get("id"), assigneeId);
     }
 
     public static Specification<Task> withAssigneeName(String assigneeName) {
-        return (root, query, cb) -> {
-            if (assigneeName == null || assigneeName.isBlank()) return null;
-            String like = "%" + assigneeName.toLowerCase() + "%";
-            return cb.like(cb.lower(root.join("assignee", JoinType.LEFT).get("name")), like);
-        };
+        return TextSpecification.containsIgnoreCase(root -> memberJoin(root, "assignee").<String>get("name"), assigneeName);
     }
 
     public static Specification<Task> withCreatedByName(String createdByName) {
-        return (root, query, cb) -> {
-            if (createdByName == null || createdByName.isBlank()) return null;
-            String like = "%" + createdByName.toLowerCase() + "%";
-            return cb.like(cb.lower(root.join("createdBy", JoinType.LEFT).get("name")), like);
-        };
+        return TextSpecification.containsIgnoreCase(root -> memberJoin(root, "createdBy").<String>get("name"), createdByName);
     }
 
     public static Specification<Task> withDueDateRange(LocalDate from, LocalDate to) {
@@ -80,16 +120,42 @@ public class TaskSpecification {
         };
     }
 
-    public static Specification<Task> withFilters(String title, String project, TaskStatus status, Priority priority,  String assigneeName, String createdByName, LocalDate dueDateFrom, LocalDate dueDateTo, Boolean onlyOverdue ) {
-        return Specification.anyOf(
+    // Reaproveita o fetch de fetchMembers quando existe, para não juntar member duas vezes.
+    @SuppressWarnings("unchecked")
+    private static Join<Task, Member> memberJoin(Root<Task> root, String attribute) {
+        for (Fetch<Task, ?> fetch : root.getFetches()) {
+            if (fetch.getAttribute().getName().equals(attribute) && fetch instanceof Join<?, ?> join) {
+                return (Join<Task, Member>) join;
+            }
+        }
+        return root.join(attribute, JoinType.LEFT);
+    }
+
+    // Traz responsável e criador na mesma consulta da página. Na consulta de
+    // contagem (resultado Long) o fetch não é aplicado.
+    public static Specification<Task> fetchMembers() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("assignee", JoinType.LEFT);
+                root.fetch("createdBy", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    // Filtros combinados com E por padrão; OU apenas com match=ANY. Filtros
+    // ausentes não geram predicado nem join.
+    public static Specification<Task> withFilters(String title, String project, TaskStatus status, Priority priority,  String assigneeName, String createdByName, LocalDate dueDateFrom, LocalDate dueDateTo, Boolean onlyOverdue, FilterMatch match, boolean derivedLate) {
+        List<Specification<Task>> filters = List.of(
                 withTitle(title),
                 withProject(project),
-                withStatus(status),
+                withStatus(status, derivedLate),
                 withPriority(priority),
                 withAssigneeName(assigneeName),
                 withCreatedByName(createdByName),
                 withDueDateRange(dueDateFrom, dueDateTo),
                 onlyOverdue(onlyOverdue)
         );
+        return match == FilterMatch.ANY ? Specification.anyOf(filters) : Specification.allOf(filters);
     }
 }
\ No newline at end of file
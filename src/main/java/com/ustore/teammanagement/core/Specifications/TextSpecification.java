@@ -0,0 +1,28 @@
+package com.ustore.teammanagement.core.Specifications;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+final class TextSpecification {
+
+    private TextSpecification() {
+        throw new UnsupportedOperationException("Classe utilitária, não instancie.");
+    }
+
+    static <T> Specification<T> containsIgnoreCase(String attribute, String term) {
+        return containsIgnoreCase(root -> root.<String>get(attribute), term);
+    }
+
+    // lower(coluna) LIKE '%termo%': mesma expressão dos índices trigram da V12.
+    // Termo vazio não gera predicado nem join.
+    static <T> Specification<T> containsIgnoreCase(Function<Root<T>, Expression<String>> column, String term) {
+        return (root, query, cb) -> {
+            if (term == null || term.isBlank()) return null;
+            return cb.like(cb.lower(column.apply(root)), "%" + term.toLowerCase(Locale.ROOT) + "%");
+        };
+    }
+}
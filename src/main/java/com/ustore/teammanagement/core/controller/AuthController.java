@@ -4,12 +4,15 @@ import com.ustore.teammanagement.config.AuthAPI;
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.service.AuthenticationServiceImpl;
 import com.ustore.teammanagement.core.service.PasswordRecoveryService;
+import com.ustore.teammanagement.core.service.RefreshTokenService;
 import com.ustore.teammanagement.core.service.TokenService;
 import com.ustore.teammanagement.payload.dto.request.ForgotPasswordRequest;
 import com.ustore.teammanagement.payload.dto.request.LoginRequest;
+import com.ustore.teammanagement.payload.dto.request.RefreshToken;
 import com.ustore.teammanagement.payload.dto.request.ResetPasswordRequest;
 import com.ustore.teammanagement.payload.dto.response.LoginResponse;
 import com.ustore.teammanagement.payload.dto.response.RecoveryTokenResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,21 +27,24 @@ public class AuthController implements AuthAPI{
     private final AuthenticationServiceImpl authenticationService;
     private final PasswordRecoveryService recoveryService;
     private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthController(AuthenticationServiceImpl authenticationService,
                           PasswordRecoveryService recoveryService,
-                          TokenService tokenService) {
+                          TokenService tokenService,
+                          RefreshTokenService refreshTokenService) {
         this.authenticationService = authenticationService;
         this.recoveryService = recoveryService;
         this.tokenService = tokenService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request) {
-        Member member = authenticationService.authenticate(request);
+    public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request, HttpServletRequest httpRequest) {
+        Member member = authenticationService.authenticate(request, httpRequest.getRemoteAddr());
 
         String access = tokenService.generateToken(member);
-        String refresh = tokenService.generateRefreshToken(member);
+        String refresh = refreshTokenService.issue(member);
 
         LoginResponse response = new LoginResponse(
                 access,
@@ -50,6 +56,11 @@ public class AuthController implements AuthAPI{
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh-token")
+    public ResponseEntity<LoginResponse> refreshToken(@RequestBody @Valid RefreshToken request) {
+        return ResponseEntity.ok(refreshTokenService.refresh(request.refreshToken()));
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<RecoveryTokenResponse> forgotPassword(@RequestBody @Valid ForgotPasswordRequest request) {
         RecoveryTokenResponse response = recoveryService.generateRecoveryToken(request);
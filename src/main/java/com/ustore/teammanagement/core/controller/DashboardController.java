@@ -2,15 +2,16 @@ package com.ustore.teammanagement.core.controller;
 
 import com.ustore.teammanagement.config.DashboardAPI;
 import com.ustore.teammanagement.core.service.DashboardService;
-import com.ustore.teammanagement.payload.dto.response.ActivityResponse;
+import com.ustore.teammanagement.payload.dto.response.ActivityCursorPage;
 import com.ustore.teammanagement.payload.dto.response.DashboardResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -29,7 +30,11 @@ public class DashboardController implements DashboardAPI {
     }
 
     @GetMapping("/recent-activities")
-    public ResponseEntity<List<ActivityResponse>> getRecentActivities() {
-        return ResponseEntity.ok(dashboardService.getRecentActivities());
+    public ResponseEntity<ActivityCursorPage> getRecentActivities(
+            @RequestParam(required = false) String project,
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size) {
+        return ResponseEntity.ok(dashboardService.getRecentActivities(project, actorId, cursor, size));
     }
 }
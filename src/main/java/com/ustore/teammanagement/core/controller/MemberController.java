@@ -1,12 +1,14 @@
 package com.ustore.teammanagement.core.controller;
 
 import com.ustore.teammanagement.config.MemberAPI;
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Role;
 import com.ustore.teammanagement.core.service.MemberService;
 import com.ustore.teammanagement.payload.dto.request.MemberRequest;
 import com.ustore.teammanagement.payload.dto.request.MemberUpdateRequest;
 import com.ustore.teammanagement.payload.dto.response.MemberResponse;
+import com.ustore.teammanagement.security.CurrentMember;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -60,16 +62,17 @@ public class MemberController implements MemberAPI {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<MemberResponse> updateMember(
             @PathVariable UUID id,
-            @Valid @RequestBody MemberUpdateRequest dto
+            @Valid @RequestBody MemberUpdateRequest dto,
+            @CurrentMember Member memberLogado
     ) throws AccessDeniedException {
-        MemberResponse updated = memberService.update(id, dto);
+        MemberResponse updated = memberService.update(id, dto, memberLogado);
         return ResponseEntity.ok(updated);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public void inactivate(@PathVariable UUID id) throws AccessDeniedException {
-        memberService.inactivateMember(id);
+    public void inactivate(@PathVariable UUID id, @CurrentMember Member memberLogado) throws AccessDeniedException {
+        memberService.inactivateMember(id, memberLogado);
     }
 }
\ No newline at end of file
@@ -2,16 +2,26 @@ package com.ustore.teammanagement.core.controller;
 
 
 import com.ustore.teammanagement.config.TaskAPI;
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.enums.FilterMatch;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.service.TaskBatchService;
 import com.ustore.teammanagement.core.service.TaskService;
+import com.ustore.teammanagement.payload.dto.request.TaskBatchRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskBulkUpdateRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskUpdateRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskBulkUpdateResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskCursorPage;
 import com.ustore.teammanagement.payload.dto.response.TaskResponse;
+import com.ustore.teammanagement.security.CurrentMember;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -25,19 +35,32 @@ import java.util.UUID;
 @RequestMapping("/tasks")
 public class TaskController implements TaskAPI {
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskBatchService taskBatchService) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
     }
 
     @PostMapping
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request) throws AccessDeniedException {
-        TaskResponse response = taskService.createTask(request);
+    public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest request,
+                                                   @CurrentMember Member memberLogado) throws AccessDeniedException {
+        TaskResponse response = taskService.createTask(request, memberLogado);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<TaskBatchResponse> createTasks(@Valid @RequestBody TaskBatchRequest request,
+                                                         @CurrentMember Member memberLogado) throws AccessDeniedException {
+        TaskBatchResponse response = taskBatchService.createTasks(request.tasks(), memberLogado);
+        HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping
     @Override
     public ResponseEntity<Page<TaskResponse>> filterTasks(
@@ -50,8 +73,32 @@ public class TaskController implements TaskAPI {
             @RequestParam(required = false) LocalDate dueDateFrom,
             @RequestParam(required = false) LocalDate dueDateTo,
             @RequestParam(required = false) Boolean onlyOverdue,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ALL") FilterMatch match,
             @ParameterObject Pageable pageable) {
-        Page<TaskResponse> page = taskService.filter(title, project, status, priority, assigneeName, createdByName, dueDateFrom, dueDateTo, onlyOverdue, pageable);
+        Page<TaskResponse> page = taskService.filter(title, project, status, priority, assigneeName, createdByName, dueDateFrom, dueDateTo, onlyOverdue, q, match, pageable);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/scroll")
+    @Override
+    public ResponseEntity<TaskCursorPage> scrollTasks(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String project,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) String assigneeName,
+            @RequestParam(required = false) String createdByName,
+            @RequestParam(required = false) LocalDate dueDateFrom,
+            @RequestParam(required = false) LocalDate dueDateTo,
+            @RequestParam(required = false) Boolean onlyOverdue,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ALL") FilterMatch match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+        TaskCursorPage page = taskService.scroll(title, project, status, priority, assigneeName, createdByName,
+                dueDateFrom, dueDateTo, onlyOverdue, q, match, cursor, size, direction);
         return ResponseEntity.ok(page);
     }
 
@@ -59,16 +106,26 @@ public class TaskController implements TaskAPI {
     @Override
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable UUID id,
-            @Valid @RequestBody TaskUpdateRequest request) {
-        TaskResponse response = taskService.updateTask(id, request);
+            @Valid @RequestBody TaskUpdateRequest request,
+            @CurrentMember Member memberLogado) {
+        TaskResponse response = taskService.updateTask(id, request, memberLogado);
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/bulk")
+    @Override
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<TaskBulkUpdateResponse> updateTasks(@Valid @RequestBody TaskBulkUpdateRequest request,
+                                                              @CurrentMember Member memberLogado) throws AccessDeniedException {
+        return ResponseEntity.ok(taskBatchService.updateTasks(request, memberLogado));
+    }
+
     @DeleteMapping("/{id}")
     @Override
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<Void> deleteTask(@PathVariable UUID id) throws AccessDeniedException {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(@PathVariable UUID id,
+                                           @CurrentMember Member memberLogado) throws AccessDeniedException {
+        taskService.deleteTask(id, memberLogado);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,94 @@
+package com.ustore.teammanagement.core.entity;
+
+import com.ustore.teammanagement.core.enums.ActivityAction;
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Linha do feed de atividades (append-only). Título da tarefa, projeto e nome
+// de quem agiu são copiados no momento da ação.
+@Entity
+@Table(name = "activity")
+public class Activity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ActivityAction action;
+
+    @Column(name = "actor_id", updatable = false)
+    private UUID actorId;
+
+    @Column(name = "actor_name", updatable = false)
+    private String actorName;
+
+    @Column(name = "task_title", nullable = false, updatable = false)
+    private String taskTitle;
+
+    @Column(updatable = false)
+    private String project;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    protected Activity() {
+    }
+
+    public Activity(Task task, ActivityAction action, Member actor) {
+        this(task.getId(), task.getTitle(), task.getProject(), action, actor);
+    }
+
+    // Para atualizações em lote, que não carregam a tarefa.
+    public Activity(UUID taskId, String taskTitle, String project, ActivityAction action, Member actor) {
+        this.taskId = taskId;
+        this.action = action;
+        this.actorId = actor != null ? actor.getId() : null;
+        this.actorName = actor != null ? actor.getName() : null;
+        this.taskTitle = taskTitle;
+        this.project = project;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public ActivityAction getAction() {
+        return action;
+    }
+
+    public UUID getActorId() {
+        return actorId;
+    }
+
+    public String getActorName() {
+        return actorName;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public String getProject() {
+        return project;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
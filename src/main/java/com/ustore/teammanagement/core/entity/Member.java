@@ -40,9 +40,13 @@ public class Member implements UserDetails {
     @Column(name = "account_locked")
     private Boolean accountLocked = false;
 
+    // Até quando a conta fica bloqueada após falhas seguidas de login.
     @Column(name = "lock_time")
     private LocalDateTime lockTime;
 
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     public Member() {}
 
     public Member(UUID id, String name, String email, String password, Role role,
@@ -103,6 +107,18 @@ public class Member implements UserDetails {
     public LocalDateTime getLockTime() { return lockTime; }
     public void setLockTime(LocalDateTime lockTime) { this.lockTime = lockTime; }
 
+    public Integer getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(Integer tokenVersion) { this.tokenVersion = tokenVersion; }
+
+    public boolean hasAnyRole(Role... roles) {
+        for (Role candidate : roles) {
+            if (candidate == this.role) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @PrePersist
     public void prePersist() {
         this.joinDate = OffsetDateTime.now();
@@ -122,7 +138,9 @@ public class Member implements UserDetails {
     public boolean isAccountNonExpired() { return true; }
 
     @Override
-    public boolean isAccountNonLocked() { return true; }
+    public boolean isAccountNonLocked() {
+        return !Boolean.TRUE.equals(accountLocked) || lockTime == null || lockTime.isBefore(LocalDateTime.now());
+    }
 
     @Override
     public boolean isCredentialsNonExpired() { return true; }
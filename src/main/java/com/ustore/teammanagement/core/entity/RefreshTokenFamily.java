@@ -0,0 +1,91 @@
+package com.ustore.teammanagement.core.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Uma família por login: cada refresh troca o currentTokenId, e apresentar um
+// token antigo da mesma família revoga a família inteira.
+@Entity
+@Table(name = "refresh_token_family")
+public class RefreshTokenFamily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(name = "current_token_id", nullable = false)
+    private UUID currentTokenId;
+
+    @Column(nullable = false)
+    private boolean revoked = false;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public RefreshTokenFamily() {
+    }
+
+    public RefreshTokenFamily(Member member, UUID currentTokenId, LocalDateTime expiresAt) {
+        this.member = member;
+        this.currentTokenId = currentTokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public void setMember(Member member) {
+        this.member = member;
+    }
+
+    public UUID getCurrentTokenId() {
+        return currentTokenId;
+    }
+
+    public void setCurrentTokenId(UUID currentTokenId) {
+        this.currentTokenId = currentTokenId;
+    }
+
+    public boolean isRevoked() {
+        return revoked;
+    }
+
+    public void setRevoked(boolean revoked) {
+        this.revoked = revoked;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
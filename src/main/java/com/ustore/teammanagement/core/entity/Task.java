@@ -39,6 +39,9 @@ public class Task {
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 
+    // Momento em que a tarefa passou para COMPLETED; volta a nulo se for reaberta.
+    private OffsetDateTime completedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private Member assignee;
@@ -51,11 +54,21 @@ public class Task {
     public void onCreate() {
         this.createdAt = OffsetDateTime.now();
         this.updatedAt = OffsetDateTime.now();
+        syncCompletedAt();
     }
 
     @PreUpdate
     public void onUpdate() {
         this.updatedAt = OffsetDateTime.now();
+        syncCompletedAt();
+    }
+
+    private void syncCompletedAt() {
+        if (status != TaskStatus.COMPLETED) {
+            this.completedAt = null;
+        } else if (completedAt == null) {
+            this.completedAt = updatedAt;
+        }
     }
 
     public Task() {
@@ -151,6 +164,10 @@ public class Task {
         return updatedAt;
     }
 
+    public OffsetDateTime getCompletedAt() {
+        return completedAt;
+    }
+
     public Member getAssignee() {
         return assignee;
     }
@@ -0,0 +1,7 @@
+package com.ustore.teammanagement.core.enums;
+
+public enum ActivityAction {
+    CREATED,
+    UPDATED,
+    COMPLETED
+}
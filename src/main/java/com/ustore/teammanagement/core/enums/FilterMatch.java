@@ -0,0 +1,12 @@
+package com.ustore.teammanagement.core.enums;
+
+import java.util.Locale;
+
+// Como os filtros de tarefa são combinados: ALL (E, padrão) ou ANY (OU).
+public enum FilterMatch {
+    ALL, ANY;
+
+    public static FilterMatch from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,9 +1,14 @@
 package com.ustore.teammanagement.core.enums;
 
+import java.util.List;
+
 public enum TaskStatus {
     TO_DO,
     IN_PROGRESSO,
     REVISION,
     COMPLETED,
-    LATE
+    LATE;
+
+    // Status em aberto: viram LATE quando a tarefa vence.
+    public static final List<TaskStatus> OPEN = List.of(TO_DO, IN_PROGRESSO, REVISION);
 }
@@ -0,0 +1,10 @@
+package com.ustore.teammanagement.core.repository;
+
+import com.ustore.teammanagement.core.entity.Activity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.UUID;
+
+public interface ActivityRepository extends JpaRepository<Activity, UUID>, JpaSpecificationExecutor<Activity> {
+}
@@ -1,5 +1,7 @@
 package com.ustore.teammanagement.core.repository;
 
+import com.ustore.teammanagement.payload.dto.response.LoginResponse;
+
 public interface AuthTokenService {
-    String refreshAccessToken(String token);
+    LoginResponse refresh(String refreshToken);
 }
@@ -3,5 +3,5 @@ import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.payload.dto.request.LoginRequest;
 
 public interface AuthenticationService {
-    Member authenticate(LoginRequest request);
+    Member authenticate(LoginRequest request, String clientIp);
 }
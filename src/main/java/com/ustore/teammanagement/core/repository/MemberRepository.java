@@ -2,9 +2,18 @@ package com.ustore.teammanagement.core.repository;
 
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.payload.dto.response.MemberPerformanceResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +21,42 @@ public interface MemberRepository extends JpaRepository<Member, UUID>, JpaSpecif
     Optional<Member> findByEmail(String email);
 
     long countByStatus(MemberStatus status);
+
+    @Query("SELECT m.tokenVersion FROM Member m WHERE m.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") UUID id);
+
+    // Troca a senha e incrementa token_version num UPDATE só, sem carregar o membro.
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password, m.tokenVersion = m.tokenVersion + 1 WHERE m.id = :id")
+    int updatePasswordAndRevokeTokens(@Param("id") UUID id, @Param("password") String password);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.failedAttempts = :failedAttempts, m.accountLocked = :locked, m.lockTime = :lockTime WHERE m.email = :email")
+    int updateLockState(@Param("email") String email,
+                        @Param("failedAttempts") int failedAttempts,
+                        @Param("locked") boolean locked,
+                        @Param("lockTime") LocalDateTime lockTime);
+
+    // Uma linha por membro com as contagens de tarefas já agregadas: a página
+    // custa uma consulta (mais a de total), independente do tamanho.
+    // avgCompletionTime = média em dias entre criação e conclusão;
+    // trend = concluídas nos últimos 7 dias menos as concluídas nos 7 anteriores.
+    @Query(value = """
+        SELECT new com.ustore.teammanagement.payload.dto.response.MemberPerformanceResponse(
+            m.id, m.name, m.role, m.department,
+            COUNT(t) FILTER (WHERE t.status = com.ustore.teammanagement.core.enums.TaskStatus.COMPLETED),
+            COUNT(t),
+            AVG((t.completedAt - t.createdAt) BY SECOND) / 86400.0,
+            COUNT(t) FILTER (WHERE t.completedAt >= :weekStart)
+                - COUNT(t) FILTER (WHERE t.completedAt >= :previousWeekStart AND t.completedAt < :weekStart)
+        )
+        FROM Member m
+        LEFT JOIN Task t ON t.assignee = m
+        GROUP BY m.id, m.name, m.role, m.department
+        """,
+            countQuery = "SELECT COUNT(m) FROM Member m")
+    Page<MemberPerformanceResponse> findPerformance(@Param("weekStart") OffsetDateTime weekStart,
+                                                    @Param("previousWeekStart") OffsetDateTime previousWeekStart,
+                                                    Pageable pageable);
 }
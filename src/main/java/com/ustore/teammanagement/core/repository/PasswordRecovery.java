@@ -2,9 +2,33 @@ package com.ustore.teammanagement.core.repository;
 
 import com.ustore.teammanagement.core.entity.PasswordRecoveryToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface PasswordRecovery extends JpaRepository<PasswordRecoveryToken, Long> {
-    Optional<PasswordRecoveryToken> findByTokenAndUsedFalse(String token);
+
+    // Marca o token como usado e devolve o dono no mesmo statement (Postgres).
+    // Vazio se o token não existe, já foi usado ou expirou.
+    @Query(value = """
+            UPDATE password_recovery_token SET used = TRUE
+            WHERE token = :token AND used = FALSE AND expiration > :now
+            RETURNING member_id
+            """, nativeQuery = true)
+    Optional<UUID> consume(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM password_recovery_token
+            WHERE id IN (SELECT id FROM password_recovery_token
+                         WHERE used = TRUE OR expiration < :now
+                         LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteUsedOrExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
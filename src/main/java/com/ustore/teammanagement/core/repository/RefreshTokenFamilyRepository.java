@@ -0,0 +1,31 @@
+package com.ustore.teammanagement.core.repository;
+
+import com.ustore.teammanagement.core.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, UUID> {
+
+    @Modifying
+    @Query("""
+            UPDATE RefreshTokenFamily f SET f.currentTokenId = :next
+            WHERE f.id = :id AND f.currentTokenId = :current AND f.revoked = false AND f.expiresAt > :now
+            """)
+    int rotate(@Param("id") UUID id,
+               @Param("current") UUID current,
+               @Param("next") UUID next,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revoked = true WHERE f.id = :id")
+    int revoke(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,30 +1,78 @@
 package com.ustore.teammanagement.core.repository;
 
-import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.entity.Task;
 import com.ustore.teammanagement.core.enums.TaskStatus;
-import org.springframework.data.domain.Pageable;
+import com.ustore.teammanagement.core.repository.projection.DashboardCounts;
+import com.ustore.teammanagement.core.repository.projection.ProjectAggregate;
+import com.ustore.teammanagement.core.repository.projection.TaskDue;
+import com.ustore.teammanagement.core.repository.projection.TaskOverviewCounts;
+import com.ustore.teammanagement.core.repository.projection.TaskPriorityCount;
+import com.ustore.teammanagement.core.repository.projection.TaskStatusCount;
+import com.ustore.teammanagement.core.repository.projection.TaskTag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
-    long countByStatusNot(TaskStatus status);
-    long countByStatusIn(List<TaskStatus> statuses);
+    // Tags de uma página inteira de tarefas numa só consulta.
+    @Query("SELECT new com.ustore.teammanagement.core.repository.projection.TaskTag(t.id, tag) FROM Task t JOIN t.tags tag WHERE t.id IN :ids")
+    List<TaskTag> findTagsByTaskIds(@Param("ids") Collection<UUID> ids);
 
+    // Um lote do LateTaskScheduler (Postgres). SKIP LOCKED pula tarefas que
+    // estão sendo editadas; elas entram na próxima execução. O ORDER BY leva o
+    // lote aos índices parciais de tarefas em aberto (sem varrer a tabela até
+    // juntar o limite) e o = ANY(ARRAY(...)) faz o UPDATE buscar cada id pela
+    // PK, em vez de um hash join com a tabela inteira.
+    @Transactional
+    @Query(value = """
+        UPDATE task SET status = 'LATE', updated_at = NOW()
+        WHERE id = ANY (ARRAY(SELECT id FROM task
+                              WHERE status IN ('TO_DO', 'IN_PROGRESSO', 'REVISION') AND due_date < :today
+                              ORDER BY due_date
+                              LIMIT :limit
+                              FOR UPDATE SKIP LOCKED))
+        RETURNING id
+        """, nativeQuery = true)
+    List<UUID> markLate(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    // Janela do DueDateScheduler: faixa de due_date das tarefas em aberto
+    // (idx_task_status_due_date), só id e prazo.
+    @Query("""
+        SELECT new com.ustore.teammanagement.core.repository.projection.TaskDue(t.id, t.dueDate)
+        FROM Task t
+        WHERE t.status IN :statuses AND t.dueDate BETWEEN :from AND :to
+        """)
+    List<TaskDue> findDueBetween(@Param("statuses") List<TaskStatus> statuses,
+                                 @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Mesma janela, restrita a um bloco de ids alterados em lote (pela PK).
     @Query("""
-        SELECT t FROM Task t
-        WHERE t.status IN ('TO_DO', 'COMPLETED')
-        ORDER BY COALESCE(t.updatedAt, t.createdAt) DESC
+        SELECT new com.ustore.teammanagement.core.repository.projection.TaskDue(t.id, t.dueDate)
+        FROM Task t
+        WHERE t.id IN :ids AND t.status IN :statuses AND t.dueDate BETWEEN :from AND :to
         """)
-    List<Task> findTop5RecentTasks(Pageable pageable);
+    List<TaskDue> findDueByIds(@Param("ids") Collection<UUID> ids, @Param("statuses") List<TaskStatus> statuses,
+                               @Param("from") LocalDate from, @Param("to") LocalDate to);
 
-    List<Task> findByStatusInAndDueDateBefore(List<TaskStatus> statuses, LocalDate date);
+    // Aplica os timers vencidos do DueDateScheduler. O filtro de status e prazo
+    // ignora tarefas concluídas ou adiadas depois que o timer foi agendado.
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Task t SET t.status = com.ustore.teammanagement.core.enums.TaskStatus.LATE, t.updatedAt = :now
+        WHERE t.id IN :ids AND t.status IN :statuses AND t.dueDate < :today
+        """)
+    int markLateByIds(@Param("ids") Collection<UUID> ids, @Param("statuses") List<TaskStatus> statuses,
+                      @Param("today") LocalDate today, @Param("now") OffsetDateTime now);
 
     @Query(value = """
     SELECT
@@ -52,9 +100,83 @@ public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificat
 """, nativeQuery = true)
     List<Object[]> findDepartmentPerformance();
 
-    // 🔹 Conta todas as tarefas atribuídas a um membro específico
-    long countByAssignee(Member assignee);
+    // Contadores do overview numa única consulta, sem carregar nenhuma Task.
+    @Query("""
+        SELECT new com.ustore.teammanagement.core.repository.projection.TaskOverviewCounts(
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status IS NULL OR t.status NOT IN (
+                com.ustore.teammanagement.core.enums.TaskStatus.COMPLETED,
+                com.ustore.teammanagement.core.enums.TaskStatus.LATE)),
+            COUNT(t) FILTER (WHERE t.status = com.ustore.teammanagement.core.enums.TaskStatus.LATE),
+            COUNT(t) FILTER (WHERE t.status = com.ustore.teammanagement.core.enums.TaskStatus.COMPLETED),
+            (SELECT COUNT(m) FROM Member m WHERE m.status = com.ustore.teammanagement.core.enums.MemberStatus.ACTIVE),
+            COUNT(t) FILTER (WHERE t.dueDate < :today AND t.status IN (
+                com.ustore.teammanagement.core.enums.TaskStatus.TO_DO,
+                com.ustore.teammanagement.core.enums.TaskStatus.IN_PROGRESSO,
+                com.ustore.teammanagement.core.enums.TaskStatus.REVISION))
+        )
+        FROM Task t
+        """)
+    TaskOverviewCounts countOverview(@Param("today") LocalDate today);
+
+    // Contadores do dashboard numa única passada em task; o total de membros
+    // ativos vem de uma subconsulta escalar no mesmo statement.
+    @Query("""
+        SELECT new com.ustore.teammanagement.core.repository.projection.DashboardCounts(
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status <> com.ustore.teammanagement.core.enums.TaskStatus.COMPLETED),
+            COUNT(t) FILTER (WHERE t.status IN (
+                com.ustore.teammanagement.core.enums.TaskStatus.TO_DO,
+                com.ustore.teammanagement.core.enums.TaskStatus.IN_PROGRESSO,
+                com.ustore.teammanagement.core.enums.TaskStatus.REVISION)),
+            COUNT(t) FILTER (WHERE t.dueDate < :today AND t.status IN (
+                com.ustore.teammanagement.core.enums.TaskStatus.TO_DO,
+                com.ustore.teammanagement.core.enums.TaskStatus.IN_PROGRESSO,
+                com.ustore.teammanagement.core.enums.TaskStatus.REVISION)),
+            (SELECT COUNT(m) FROM Member m WHERE m.status = com.ustore.teammanagement.core.enums.MemberStatus.ACTIVE)
+        )
+        FROM Task t
+        """)
+    DashboardCounts countDashboard(@Param("today") LocalDate today);
+
+    // Histogramas do /analytics/tasks agrupados no banco: uma linha por status/prioridade.
+    @Query("""
+        SELECT new com.ustore.teammanagement.core.repository.projection.TaskStatusCount(
+            t.status, COUNT(t), COUNT(t) FILTER (WHERE t.dueDate < :today))
+        FROM Task t
+        GROUP BY t.status
+        """)
+    List<TaskStatusCount> countGroupedByStatus(@Param("today") LocalDate today);
 
-    // 🔹 Conta todas as tarefas de um membro com um status específico
-    long countByAssigneeAndStatus(Member assignee, TaskStatus status);
+    @Query("""
+        SELECT new com.ustore.teammanagement.core.repository.projection.TaskPriorityCount(t.priority, COUNT(t))
+        FROM Task t
+        GROUP BY t.priority
+        """)
+    List<TaskPriorityCount> countGroupedByPriority();
+
+    // Uma linha por projeto. topPriority é o ordinal da maior prioridade
+    // (LOW=0 .. URGENT=3); t.assignee.id usa a FK direto, sem join em member.
+    @Query("""
+        SELECT new com.ustore.teammanagement.core.repository.projection.ProjectAggregate(
+            t.project,
+            COUNT(t),
+            COUNT(t) FILTER (WHERE t.status = com.ustore.teammanagement.core.enums.TaskStatus.COMPLETED),
+            COUNT(DISTINCT t.assignee.id),
+            MIN(t.dueDate),
+            MAX(CASE t.priority
+                WHEN com.ustore.teammanagement.core.enums.Priority.URGENT THEN 3
+                WHEN com.ustore.teammanagement.core.enums.Priority.HIGH THEN 2
+                WHEN com.ustore.teammanagement.core.enums.Priority.MEDIUM THEN 1
+                WHEN com.ustore.teammanagement.core.enums.Priority.LOW THEN 0
+            END),
+            COUNT(t) FILTER (WHERE t.dueDate < :today
+                AND (t.status IS NULL OR t.status <> com.ustore.teammanagement.core.enums.TaskStatus.COMPLETED))
+        )
+        FROM Task t
+        WHERE t.project IS NOT NULL
+        GROUP BY t.project
+        ORDER BY t.project
+        """)
+    List<ProjectAggregate> aggregateByProject(@Param("today") LocalDate today);
 }
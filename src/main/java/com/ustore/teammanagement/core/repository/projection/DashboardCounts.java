@@ -0,0 +1,11 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+// openTasks: TO_DO, IN_PROGRESSO e REVISION; overdueOpenTasks: as abertas já vencidas.
+public record DashboardCounts(
+        long totalTasks,
+        long activeTasks,
+        long openTasks,
+        long overdueOpenTasks,
+        long activeMembers
+) {
+}
@@ -0,0 +1,14 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+import java.time.LocalDate;
+
+public record ProjectAggregate(
+        String project,
+        long totalTasks,
+        long completedTasks,
+        long teamMembers,
+        LocalDate dueDate,
+        Integer topPriority,
+        long overdueTasks
+) {
+}
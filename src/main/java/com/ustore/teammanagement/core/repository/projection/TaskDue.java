@@ -0,0 +1,10 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TaskDue(
+        UUID id,
+        LocalDate dueDate
+) {
+}
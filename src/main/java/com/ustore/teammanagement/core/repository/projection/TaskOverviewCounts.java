@@ -0,0 +1,15 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+// overdueOpenTasks: em aberto e vencidas, ainda sem LATE gravado.
+public record TaskOverviewCounts(
+        long totalTasks,
+        long activeTasks,
+        long lateTasks,
+        long completedTasks,
+        long activeMembers,
+        long overdueOpenTasks
+) {
+    public TaskOverviewCounts(long totalTasks, long activeTasks, long lateTasks, long completedTasks, long activeMembers) {
+        this(totalTasks, activeTasks, lateTasks, completedTasks, activeMembers, 0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+import com.ustore.teammanagement.core.enums.Priority;
+
+public record TaskPriorityCount(
+        Priority priority,
+        long total
+) {
+}
@@ -0,0 +1,14 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+import com.ustore.teammanagement.core.enums.TaskStatus;
+
+// overdue: quantas tarefas do status já venceram (usado com LATE calculado na leitura).
+public record TaskStatusCount(
+        TaskStatus status,
+        long total,
+        long overdue
+) {
+    public TaskStatusCount(TaskStatus status, long total) {
+        this(status, total, 0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ustore.teammanagement.core.repository.projection;
+
+import java.util.UUID;
+
+public record TaskTag(
+        UUID taskId,
+        String tag
+) {
+}
@@ -0,0 +1,65 @@
+package com.ustore.teammanagement.core.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Pool limitado para disparar as consultas do analytics em paralelo. Quando o
+// pool está saturado a consulta roda na própria thread da requisição
+// (CallerRunsPolicy): o endpoint fica mais lento, mas não falha.
+@Component
+public class AnalyticsExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public AnalyticsExecutor(@Value("${analytics.query.pool-size:4}") int poolSize,
+                             @Value("${analytics.query.queue-capacity:32}") int queueCapacity,
+                             MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("analytics.query.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("analytics.query.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    // Espera o resultado repassando a exceção original da consulta.
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "analytics-query-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
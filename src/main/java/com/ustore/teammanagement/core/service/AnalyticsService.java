@@ -1,12 +1,13 @@
 package com.ustore.teammanagement.core.service;
 
-import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.entity.Task;
-import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
 import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.TaskOverviewCounts;
+import com.ustore.teammanagement.core.repository.projection.TaskPriorityCount;
+import com.ustore.teammanagement.core.repository.projection.TaskStatusCount;
 import com.ustore.teammanagement.payload.dto.response.AnalyticsTaskResponse;
 import com.ustore.teammanagement.payload.dto.response.MemberPerformanceResponse;
 import com.ustore.teammanagement.payload.dto.response.OverviewResponse;
@@ -15,69 +16,94 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AnalyticsService {
     private final TaskRepository taskRepository;
     private final MemberRepository memberRepository;
+    private final AnalyticsExecutor analyticsExecutor;
+    private final LateTaskPolicy lateTaskPolicy;
 
-    public AnalyticsService(TaskRepository taskRepository, MemberRepository memberRepository) {
+    public AnalyticsService(TaskRepository taskRepository, MemberRepository memberRepository,
+                            AnalyticsExecutor analyticsExecutor, LateTaskPolicy lateTaskPolicy) {
         this.taskRepository = taskRepository;
         this.memberRepository = memberRepository;
+        this.analyticsExecutor = analyticsExecutor;
+        this.lateTaskPolicy = lateTaskPolicy;
     }
 
     public OverviewResponse AnalyticsOverview() {
-        List<Task> allTasks = taskRepository.findAll();
-        long activeMembers = memberRepository.countByStatus(MemberStatus.ACTIVE);
-        long totalTasks = allTasks.size();
+        TaskOverviewCounts counts = taskRepository.countOverview(LocalDate.now());
 
-        long activeTasks = allTasks.stream()
-                .filter(t -> t.getStatus() != TaskStatus.COMPLETED && t.getStatus() != TaskStatus.LATE)
-                .count();
-
-        long lateTasks = allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.LATE)
-                .count();
-
-        long completedOnTime = allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
-                .count();
+        double completionRate = counts.totalTasks() == 0 ? 0 :
+                (double) counts.completedTasks() / counts.totalTasks() * 100;
 
-        double completionRate = totalTasks == 0 ? 0 :
-                (double) completedOnTime / totalTasks * 100;
+        // LATE calculado na leitura: as abertas vencidas saem de ativas e entram em atrasadas.
+        long overdue = lateTaskPolicy.isDerived() ? counts.overdueOpenTasks() : 0;
 
         return new OverviewResponse(
-                activeTasks,
-                lateTasks,
+                counts.activeTasks() - overdue,
+                counts.lateTasks() + overdue,
                 Math.round(completionRate),
-                activeMembers
+                counts.activeMembers()
         );
     }
 
     public AnalyticsTaskResponse getAnalyticsTasks(int days) {
-        List<Task> allTasks = taskRepository.findAll();
-
-        Map<TaskStatus, Long> tasksByStatus = allTasks.stream()
-                .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
-
-        Map<Priority, Long> tasksByPriority = allTasks.stream()
-                .collect(Collectors.groupingBy(Task::getPriority, Collectors.counting()));
-
-        List<Map<String, Object>> completionTrend = getTrendData(days);
-
-        List<Map<String, Object>> departmentPerformance = buildDepartmentPerformance();
+        // As quatro consultas são independentes: disparadas juntas, a latência
+        // fica a da mais lenta e não a soma de todas.
+        CompletableFuture<Map<TaskStatus, Long>> tasksByStatus =
+                analyticsExecutor.submit(this::countTasksByStatus);
+        CompletableFuture<Map<Priority, Long>> tasksByPriority =
+                analyticsExecutor.submit(this::countTasksByPriority);
+        CompletableFuture<List<Map<String, Object>>> completionTrend =
+                analyticsExecutor.submit(() -> getTrendData(days));
+        CompletableFuture<List<Map<String, Object>>> departmentPerformance =
+                analyticsExecutor.submit(this::buildDepartmentPerformance);
 
         return new AnalyticsTaskResponse(
-                tasksByStatus,
-                tasksByPriority,
-                completionTrend,
-                departmentPerformance
+                AnalyticsExecutor.join(tasksByStatus),
+                AnalyticsExecutor.join(tasksByPriority),
+                AnalyticsExecutor.join(completionTrend),
+                AnalyticsExecutor.join(departmentPerformance)
         );
     }
 
+    // Tarefas sem status/prioridade ficam fora do histograma (EnumMap não aceita chave nula).
+    // Com LATE calculado na leitura, as vencidas de cada status aberto passam para LATE.
+    private Map<TaskStatus, Long> countTasksByStatus() {
+        Map<TaskStatus, Long> result = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusCount row : taskRepository.countGroupedByStatus(LocalDate.now())) {
+            if (row.status() == null) {
+                continue;
+            }
+            if (lateTaskPolicy.isDerived() && TaskStatus.OPEN.contains(row.status()) && row.overdue() > 0) {
+                result.merge(TaskStatus.LATE, row.overdue(), Long::sum);
+                if (row.total() > row.overdue()) {
+                    result.merge(row.status(), row.total() - row.overdue(), Long::sum);
+                }
+            } else {
+                result.merge(row.status(), row.total(), Long::sum);
+            }
+        }
+        return result;
+    }
+
+    private Map<Priority, Long> countTasksByPriority() {
+        Map<Priority, Long> result = new EnumMap<>(Priority.class);
+        for (TaskPriorityCount row : taskRepository.countGroupedByPriority()) {
+            if (row.priority() != null) {
+                result.put(row.priority(), row.total());
+            }
+        }
+        return result;
+    }
+
     public List<Map<String, Object>> getTrendData(int days) {
         List<Object[]> rows = taskRepository.findTaskTrend(days);
 
@@ -107,102 +133,65 @@ public class AnalyticsService {
     }
 
     public Page<MemberPerformanceResponse> getPerformance(Pageable pageable) {
-        return memberRepository.findAll(pageable)
-                .map(member -> {
-                    long tasksAssigned = taskRepository.countByAssignee(member);
-                    long tasksCompleted = taskRepository.countByAssigneeAndStatus(member, TaskStatus.COMPLETED);
-
-                    double avgCompletionTime = 0;
-                    int trend = 0;
-
-                    return MemberPerformanceResponse.fromEntity(
-                            member,
-                            tasksCompleted,
-                            tasksAssigned,
-                            avgCompletionTime,
-                            trend
-                    );
-                });
+        OffsetDateTime weekStart = OffsetDateTime.now().minusWeeks(1);
+        return memberRepository.findPerformance(weekStart, weekStart.minusWeeks(1), pageable);
     }
 
 
     public List<ProjectProgressResponse> getProjectProgress() {
-
-        List<Task> tasks = taskRepository.findAll();
-
-        // Agrupar tarefas por nome do projeto
-        Map<String, List<Task>> grouped = tasks.stream()
-                .collect(Collectors.groupingBy(Task::getProject));
-
-        return grouped.entrySet().stream()
-                .map(entry -> {
-
-                    String projectName = entry.getKey();
-                    List<Task> projectTasks = entry.getValue();
-
-                    long totalTasks = projectTasks.size();
-                    long completedTasks = projectTasks.stream()
-                            .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
-                            .count();
-
-                    double progress = totalTasks > 0
-                            ? (completedTasks * 100.0 / totalTasks)
+        return taskRepository.aggregateByProject(LocalDate.now()).stream()
+                .map(project -> {
+                    double progress = project.totalTasks() > 0
+                            ? (project.completedTasks() * 100.0 / project.totalTasks())
                             : 0.0;
 
-                    LocalDate dueDate = projectTasks.stream()
-                            .map(Task::getDueDate)
-                            .filter(Objects::nonNull)
-                            .min(LocalDate::compareTo)
-                            .orElse(null);
-
-                    long teamMembers = projectTasks.stream()
-                            .map(Task::getAssignee)
-                            .filter(Objects::nonNull)
-                            .map(Member::getId)
-                            .distinct()
-                            .count();
-
-                    Priority priority = projectTasks.stream()
-                            .map(Task::getPriority)
-                            .filter(Objects::nonNull)
-                            .findFirst()
-                            .orElse(Priority.MEDIUM);
-
-                    TaskStatus status = calculateProjectStatus(projectTasks);
+                    Priority priority = project.topPriority() != null
+                            ? Priority.values()[project.topPriority()]
+                            : Priority.MEDIUM;
 
                     return new ProjectProgressResponse(
-                            UUID.randomUUID(),
-                            projectName,
-                            "Projeto " + projectName,
+                            projectId(project.project()),
+                            project.project(),
+                            "Projeto " + project.project(),
                             progress,
-                            totalTasks,
-                            completedTasks,
-                            teamMembers,
-                            dueDate,
-                            status,
+                            project.totalTasks(),
+                            project.completedTasks(),
+                            project.teamMembers(),
+                            project.dueDate(),
+                            projectStatus(project.totalTasks(), project.completedTasks(), project.overdueTasks()),
                             priority
                     );
                 })
                 .toList();
     }
 
-    public TaskStatus calculateProjectStatus(List<Task> tasks) {
-
-        boolean allCompleted = tasks.stream()
-                .allMatch(t -> t.getStatus() == TaskStatus.COMPLETED);
+    // O projeto é só um nome na tarefa: o id é derivado dele para ser o mesmo a cada resposta.
+    static UUID projectId(String projectName) {
+        return UUID.nameUUIDFromBytes(("project:" + projectName).getBytes(StandardCharsets.UTF_8));
+    }
 
-        if (allCompleted) {
-            return TaskStatus.COMPLETED;
-        }
+    public TaskStatus calculateProjectStatus(List<Task> tasks) {
+        long completed = tasks.stream()
+                .filter(t -> t.getStatus() == TaskStatus.COMPLETED)
+                .count();
 
-        boolean hasLate = tasks.stream()
-                .anyMatch(t ->
+        long overdue = tasks.stream()
+                .filter(t ->
                         t.getDueDate() != null &&
                                 t.getDueDate().isBefore(LocalDate.now()) &&
                                 t.getStatus() != TaskStatus.COMPLETED
-                );
+                )
+                .count();
+
+        return projectStatus(tasks.size(), completed, overdue);
+    }
+
+    private static TaskStatus projectStatus(long totalTasks, long completedTasks, long overdueTasks) {
+        if (completedTasks == totalTasks) {
+            return TaskStatus.COMPLETED;
+        }
 
-        if (hasLate) {
+        if (overdueTasks > 0) {
             return TaskStatus.LATE;
         }
 
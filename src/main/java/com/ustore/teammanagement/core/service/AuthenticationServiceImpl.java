@@ -2,9 +2,12 @@ package com.ustore.teammanagement.core.service;
 
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.repository.AuthenticationService;
-import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.payload.dto.request.LoginRequest;
+import com.ustore.teammanagement.security.LoginExecutor;
+import com.ustore.teammanagement.security.LoginThrottle;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -15,19 +18,38 @@ import org.springframework.stereotype.Service;
 public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final AuthenticationManager authenticationManager;
-    private final MemberRepository memberRepository;
+    private final TokenVersionRegistry tokenVersions;
+    private final LoginExecutor loginExecutor;
+    private final LoginThrottle loginThrottle;
 
-    public AuthenticationServiceImpl(AuthenticationManager authenticationManager, MemberRepository memberRepository) {
+    public AuthenticationServiceImpl(AuthenticationManager authenticationManager, TokenVersionRegistry tokenVersions,
+                                     LoginExecutor loginExecutor, LoginThrottle loginThrottle) {
         this.authenticationManager = authenticationManager;
-        this.memberRepository = memberRepository;
+        this.tokenVersions = tokenVersions;
+        this.loginExecutor = loginExecutor;
+        this.loginThrottle = loginThrottle;
     }
 
-    public Member authenticate(LoginRequest request) {
-        Authentication auth = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.email(), request.password())
-        );
+    public Member authenticate(LoginRequest request, String clientIp) {
+        loginThrottle.acquire(request.email(), clientIp);
 
-        return memberRepository.findByEmail(request.email())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        Authentication auth;
+        try {
+            auth = loginExecutor.execute(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.email(), request.password())
+            ));
+        } catch (BadCredentialsException e) {
+            loginThrottle.recordFailure(request.email());
+            throw e;
+        }
+
+        // O UserDetailServiceImpl já carregou o Member para conferir a senha: reaproveita o principal.
+        if (!(auth.getPrincipal() instanceof Member member)) {
+            throw new UsernameNotFoundException("User not found");
+        }
+
+        loginThrottle.recordSuccess(member);
+        tokenVersions.remember(member);
+        return member;
     }
 }
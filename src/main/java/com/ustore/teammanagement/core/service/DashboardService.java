@@ -1,72 +1,141 @@
 package com.ustore.teammanagement.core.service;
 
-import com.ustore.teammanagement.core.entity.Task;
-import com.ustore.teammanagement.core.enums.MemberStatus;
-import com.ustore.teammanagement.core.enums.TaskStatus;
-import com.ustore.teammanagement.core.repository.MemberRepository;
+import com.ustore.teammanagement.core.Specifications.ActivitySpecification;
+import com.ustore.teammanagement.core.entity.Activity;
+import com.ustore.teammanagement.core.enums.ActivityAction;
+import com.ustore.teammanagement.core.repository.ActivityRepository;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.DashboardCounts;
+import com.ustore.teammanagement.payload.dto.response.ActivityCursorPage;
 import com.ustore.teammanagement.payload.dto.response.ActivityResponse;
 import com.ustore.teammanagement.payload.dto.response.DashboardResponse;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class DashboardService {
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 100;
 
-    private final MemberRepository memberRepository;
     private final TaskRepository taskRepository;
+    private final ActivityRepository activityRepository;
+    private final LateTaskPolicy lateTaskPolicy;
+    private final long cacheTtlNanos;
+    private final AtomicReference<StatsSnapshot> stats = new AtomicReference<>();
 
-    public DashboardService(MemberRepository memberRepository, TaskRepository taskRepository) {
-        this.memberRepository = memberRepository;
+    public DashboardService(TaskRepository taskRepository, ActivityRepository activityRepository,
+                            LateTaskPolicy lateTaskPolicy,
+                            @Value("${dashboard.stats.cache-ttl-ms:2000}") long cacheTtlMillis) {
         this.taskRepository = taskRepository;
+        this.activityRepository = activityRepository;
+        this.lateTaskPolicy = lateTaskPolicy;
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMillis);
     }
 
+    // O dashboard é a página mais consultada: o resultado vale por cache-ttl-ms
+    // e quem chega enquanto a consulta está rodando espera a mesma consulta,
+    // em vez de abrir outra. Falha não fica em cache.
     public DashboardResponse getDashboardStats() {
-        long totalMembers = memberRepository.countByStatus(MemberStatus.ACTIVE);
+        while (true) {
+            StatsSnapshot current = stats.get();
+            if (current != null && current.isFresh(System.nanoTime())) {
+                return AnalyticsExecutor.join(current.result);
+            }
 
-        long activeTasks = taskRepository.countByStatusNot(TaskStatus.COMPLETED);
+            StatsSnapshot next = new StatsSnapshot();
+            if (stats.compareAndSet(current, next)) {
+                try {
+                    DashboardResponse response = loadStats();
+                    next.expiresAt = System.nanoTime() + cacheTtlNanos;
+                    next.result.complete(response);
+                    return response;
+                } catch (RuntimeException e) {
+                    stats.compareAndSet(next, null);
+                    next.result.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+    }
 
-        long pendingReviews = taskRepository.countByStatusIn(
-                List.of(TaskStatus.TO_DO, TaskStatus.IN_PROGRESSO, TaskStatus.REVISION)
-        );
+    private DashboardResponse loadStats() {
+        DashboardCounts counts = taskRepository.countDashboard(LocalDate.now());
 
-        long totalTasks = taskRepository.count();
+        long pendingReviews = counts.openTasks();
+        if (lateTaskPolicy.isDerived()) {
+            // As vencidas contam como LATE, não como pendentes.
+            pendingReviews -= counts.overdueOpenTasks();
+        }
 
-        double completionRate = totalTasks == 0
+        double completionRate = counts.totalTasks() == 0
                 ? 0
-                : (double) (totalTasks - activeTasks) / totalTasks * 100;
+                : (double) (counts.totalTasks() - counts.activeTasks()) / counts.totalTasks() * 100;
 
         return new DashboardResponse(
-                totalMembers,
-                activeTasks,
+                counts.activeMembers(),
+                counts.activeTasks(),
                 pendingReviews,
                 Math.round(completionRate)
         );
     }
 
-    public List<ActivityResponse> getRecentActivities() {
-        Pageable pageable = PageRequest.of(0, 5);
-
-        return taskRepository.findTop5RecentTasks(pageable)
-                .stream()
-                .filter(task -> task.getStatus() == TaskStatus.TO_DO || task.getStatus() == TaskStatus.COMPLETED)
-                .map(task -> new ActivityResponse(
-                        task.getCreatedBy() != null ? task.getCreatedBy().getName() : "Desconhecido",
-                        getActionLabel(task),
-                        task.getTitle(),
-                        task.getUpdatedAt() != null ? task.getUpdatedAt() : task.getCreatedAt()
+    // Consulta em andamento (result ainda aberto) ou resultado dentro do TTL.
+    private static final class StatsSnapshot {
+        private final CompletableFuture<DashboardResponse> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private boolean isFresh(long now) {
+            return !result.isDone() || (!result.isCompletedExceptionally() && now - expiresAt < 0);
+        }
+    }
+
+    // Feed do dashboard direto da tabela activity: keyset em (created_at, id)
+    // decrescente, sem ordenar a tabela task e sem carregar membros.
+    public ActivityCursorPage getRecentActivities(String project, UUID actorId, String cursor, int size) {
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_ACTIVITY_PAGE_SIZE);
+
+        Window<Activity> window = activityRepository.findBy(
+                ActivitySpecification.withProject(project).and(ActivitySpecification.withActorId(actorId)),
+                query -> query.sortBy(KeysetCursor.sort(Sort.Direction.DESC))
+                        .limit(limit)
+                        .scroll(position != null ? position.position() : ScrollPosition.keyset())
+        );
+
+        List<Activity> activities = window.getContent();
+        List<ActivityResponse> content = activities.stream()
+                .map(activity -> new ActivityResponse(
+                        activity.getActorName() != null ? activity.getActorName() : "Desconhecido",
+                        getActionLabel(activity.getAction()),
+                        activity.getTaskTitle(),
+                        activity.getCreatedAt(),
+                        activity.getTaskId(),
+                        activity.getProject()
                 ))
                 .toList();
+
+        String nextCursor = null;
+        if (window.hasNext() && !activities.isEmpty()) {
+            Activity last = activities.get(activities.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId(), Sort.Direction.DESC).encode();
+        }
+        return new ActivityCursorPage(content, nextCursor, nextCursor != null);
     }
 
-    private String getActionLabel(Task task) {
-        return switch (task.getStatus()) {
+    private String getActionLabel(ActivityAction action) {
+        return switch (action) {
+            case CREATED -> "criou a tarefa";
+            case UPDATED -> "atualizou a tarefa";
             case COMPLETED -> "concluiu a tarefa";
-            case TO_DO -> "criou a tarefa";
-            default -> "";
         };
     }
 }
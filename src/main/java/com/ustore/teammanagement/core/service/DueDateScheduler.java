@@ -0,0 +1,212 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.TaskDue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Marca LATE e dispara lembretes poucos segundos depois do prazo, sem varrer a
+// tabela a cada minuto. Só as tarefas em aberto que vencem dentro do horizonte
+// ficam na roda (TimingWheel): a janela é recarregada por uma consulta de faixa
+// no índice de due_date e o TaskService mantém a roda em dia a cada
+// criação/edição (o TaskBatchService, depois do commit de cada lote). O
+// LateTaskScheduler continua como rede de segurança.
+//
+// Os disparos rodam sob o SchedulerLock, então dois nós nunca aplicam LATE ao
+// mesmo tempo, e o UPDATE é idempotente pelo filtro de status. A roda, porém,
+// é de cada nó: com várias instâncias, cada uma publica os seus lembretes.
+// Para um aviso por tarefa, habilite tasks.due.enabled em um único nó.
+@Component
+public class DueDateScheduler {
+
+    enum Kind { LATE, REMINDER }
+
+    record Timer(UUID taskId, Kind kind) {
+    }
+
+    static final String LOCK_NAME = "due-date-scheduler";
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLock schedulerLock;
+    private final boolean enabled;
+    private final boolean persistLate;
+    private final int horizonDays;
+    private final Duration reminderLead;
+    private final int chunkSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final TimingWheel<Timer> wheel;
+    private final Counter markedLate;
+    private final Counter reminders;
+    // Lembretes publicados desde o último reload, para o reload seguinte não
+    // repeti-los nem perder os que venceram entre um tick e o reload.
+    private final Set<UUID> remindedSinceReload = ConcurrentHashMap.newKeySet();
+    private volatile Instant lastReload;
+
+    public DueDateScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher,
+                            SchedulerLock schedulerLock,
+                            @Value("${tasks.due.enabled:true}") boolean enabled,
+                            @Value("${tasks.late.persist:true}") boolean persistLate,
+                            @Value("${tasks.due.tick-ms:1000}") long tickMillis,
+                            @Value("${tasks.due.wheel-size:4096}") int wheelSize,
+                            @Value("${tasks.due.horizon-days:2}") int horizonDays,
+                            @Value("${tasks.due.reminder-lead-hours:24}") int reminderLeadHours,
+                            @Value("${tasks.late.chunk-size:1000}") int chunkSize,
+                            MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.schedulerLock = schedulerLock;
+        this.enabled = enabled;
+        this.persistLate = persistLate;
+        this.horizonDays = horizonDays;
+        this.reminderLead = Duration.ofHours(reminderLeadHours);
+        this.chunkSize = chunkSize;
+        this.lastReload = Instant.now();
+        this.wheel = new TimingWheel<>(Duration.ofMillis(tickMillis), wheelSize, lastReload);
+
+        Gauge.builder("tasks.due.wheel.timers", wheel, TimingWheel::size).register(meterRegistry);
+        this.markedLate = Counter.builder("tasks.due.late.marked").register(meterRegistry);
+        this.reminders = Counter.builder("tasks.due.reminders").register(meterRegistry);
+    }
+
+    // Roda na subida (initialDelay 0) e depois a cada reload-ms, deslizando o
+    // horizonte. Inclui as vencidas de ontem para cobrir um nó que estava fora
+    // do ar na virada do dia. Lembretes que venceram desde o reload anterior e
+    // ainda não saíram voltam para a roda e disparam no próximo tick.
+    @Scheduled(fixedDelayString = "${tasks.due.reload-ms:3600000}")
+    public int reload() {
+        return enabled ? reload(Instant.now()) : 0;
+    }
+
+    synchronized int reload(Instant now) {
+        LocalDate today = LocalDate.ofInstant(now, zone);
+        List<TaskDue> window = taskRepository.findDueBetween(TaskStatus.OPEN, today.minusDays(1), today.plusDays(horizonDays));
+
+        wheel.clear();
+        for (TaskDue task : window) {
+            schedule(task.id(), task.dueDate());
+        }
+        remindedSinceReload.clear();
+        lastReload = now;
+        return window.size();
+    }
+
+    // Chamado pelo TaskService depois de salvar: reagenda, ou tira da roda a
+    // tarefa que foi concluída, ficou sem prazo ou saiu do horizonte.
+    public void track(Task task) {
+        if (!enabled) {
+            return;
+        }
+
+        untrack(task.getId());
+        LocalDate today = LocalDate.now(zone);
+        LocalDate dueDate = task.getDueDate();
+        if (task.getStatus() != null && TaskStatus.OPEN.contains(task.getStatus()) && dueDate != null
+                && !dueDate.isBefore(today.minusDays(1)) && !dueDate.isAfter(today.plusDays(horizonDays))) {
+            schedule(task.getId(), dueDate);
+        }
+    }
+
+    // Reagenda tarefas alteradas por UPDATE em lote, sem carregar as entidades:
+    // as que saíram da janela só deixam a roda.
+    public void refresh(Collection<UUID> taskIds) {
+        if (!enabled || taskIds.isEmpty()) {
+            return;
+        }
+
+        taskIds.forEach(this::untrack);
+        LocalDate today = LocalDate.now(zone);
+        for (TaskDue task : taskRepository.findDueByIds(taskIds, TaskStatus.OPEN, today.minusDays(1), today.plusDays(horizonDays))) {
+            schedule(task.id(), task.dueDate());
+        }
+    }
+
+    public void untrack(UUID taskId) {
+        wheel.cancel(new Timer(taskId, Kind.LATE));
+        wheel.cancel(new Timer(taskId, Kind.REMINDER));
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.due.tick-ms:1000}")
+    public int tick() {
+        return enabled ? fire(Instant.now()) : 0;
+    }
+
+    // Aplica os timers vencidos: LATE em UPDATEs por lote e um único evento com
+    // todos os lembretes do tick. Se outro nó está com o lock, os timers voltam
+    // para a roda e são tentados no próximo tick. Retorna quantas tarefas foram
+    // marcadas.
+    synchronized int fire(Instant now) {
+        List<Timer> due = wheel.advance(now);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        int[] marked = {0};
+        if (!schedulerLock.runIfAcquired(LOCK_NAME, () -> marked[0] = apply(due, now))) {
+            due.forEach(timer -> wheel.schedule(timer, now));
+        }
+        return marked[0];
+    }
+
+    private int apply(List<Timer> due, Instant now) {
+        List<UUID> late = new ArrayList<>();
+        List<UUID> remind = new ArrayList<>();
+        for (Timer timer : due) {
+            (timer.kind() == Kind.LATE ? late : remind).add(timer.taskId());
+        }
+
+        int marked = 0;
+        LocalDate today = LocalDate.ofInstant(now, zone);
+        OffsetDateTime updatedAt = OffsetDateTime.ofInstant(now, zone);
+        for (int from = 0; from < late.size(); from += chunkSize) {
+            List<UUID> chunk = late.subList(from, Math.min(from + chunkSize, late.size()));
+            marked += taskRepository.markLateByIds(chunk, TaskStatus.OPEN, today, updatedAt);
+        }
+        markedLate.increment(marked);
+
+        if (!remind.isEmpty()) {
+            remindedSinceReload.addAll(remind);
+            reminders.increment(remind.size());
+            eventPublisher.publishEvent(new TaskDueReminderEvent(List.copyOf(remind)));
+        }
+        return marked;
+    }
+
+    int size() {
+        return wheel.size();
+    }
+
+    // O prazo vence na virada do dia seguinte ao due_date. Lembrete anterior
+    // ao último reload, ou já publicado desde então, não é reagendado, para não
+    // repetir o aviso; os demais que já venceram disparam no próximo tick.
+    private void schedule(UUID taskId, LocalDate dueDate) {
+        Instant deadline = dueDate.plusDays(1).atStartOfDay(zone).toInstant();
+        if (persistLate) {
+            wheel.schedule(new Timer(taskId, Kind.LATE), deadline);
+        }
+
+        Instant reminder = deadline.minus(reminderLead);
+        if (reminder.isAfter(lastReload) && !remindedSinceReload.contains(taskId)) {
+            wheel.schedule(new Timer(taskId, Kind.REMINDER), reminder);
+        }
+    }
+}
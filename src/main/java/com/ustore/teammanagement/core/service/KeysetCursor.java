@@ -0,0 +1,56 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.exceptions.InvalidCursorException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Posição de uma paginação por keyset em (createdAt, id): o último item
+// entregue e a direção da ordenação. Serve a qualquer entidade com esses dois
+// atributos (modo cursor de GET /tasks, feed de atividades). Para o cliente é
+// um token opaco.
+record KeysetCursor(OffsetDateTime createdAt, UUID id, Sort.Direction direction) {
+
+    static final String SORT_KEY = "createdAt";
+
+    String encode() {
+        String raw = direction.name() + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Cursor inválido");
+            }
+            return new KeysetCursor(OffsetDateTime.parse(parts[1]), UUID.fromString(parts[2]),
+                    Sort.Direction.valueOf(parts[0]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor inválido");
+        }
+    }
+
+    Sort sort() {
+        return sort(direction);
+    }
+
+    static Sort sort(Sort.Direction direction) {
+        return Sort.by(direction, SORT_KEY).and(Sort.by(direction, "id"));
+    }
+
+    ScrollPosition position() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(SORT_KEY, createdAt);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
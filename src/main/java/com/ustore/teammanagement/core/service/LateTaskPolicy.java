@@ -0,0 +1,36 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Com tasks.late.derived=true o status LATE é calculado na leitura: tarefa
+// em aberto com due_date anterior a hoje conta como atrasada, mesmo que o
+// LateTaskScheduler ainda não tenha gravado LATE (ou esteja desligado).
+@Component
+public class LateTaskPolicy {
+
+    private final boolean derived;
+
+    public LateTaskPolicy(@Value("${tasks.late.derived:false}") boolean derived) {
+        this.derived = derived;
+    }
+
+    public boolean isDerived() {
+        return derived;
+    }
+
+    public TaskStatus statusOf(Task task) {
+        if (derived && isOverdue(task.getStatus(), task.getDueDate(), LocalDate.now())) {
+            return TaskStatus.LATE;
+        }
+        return task.getStatus();
+    }
+
+    static boolean isOverdue(TaskStatus status, LocalDate dueDate, LocalDate today) {
+        return status != null && TaskStatus.OPEN.contains(status) && dueDate != null && dueDate.isBefore(today);
+    }
+}
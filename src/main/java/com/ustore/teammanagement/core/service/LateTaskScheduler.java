@@ -1,41 +1,69 @@
 package com.ustore.teammanagement.core.service;
 
-import com.ustore.teammanagement.core.entity.Task;
-import com.ustore.teammanagement.core.enums.TaskStatus;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
+// tasks.late.persist=false desliga a gravação de LATE; use com
+// tasks.late.derived=true para calcular o atraso só na leitura.
 @Component
+@ConditionalOnProperty(name = "tasks.late.persist", havingValue = "true", matchIfMissing = true)
 public class LateTaskScheduler {
 
+    static final String LOCK_NAME = "late-task-scheduler";
+
     private final TaskRepository taskRepository;
+    private final SchedulerLock schedulerLock;
+    private final int chunkSize;
+    private final DistributionSummary chunkRows;
+    private final Timer duration;
+    private final Counter skipped;
 
-    public LateTaskScheduler(TaskRepository taskRepository) {
+    public LateTaskScheduler(TaskRepository taskRepository, SchedulerLock schedulerLock,
+                             @Value("${tasks.late.chunk-size:1000}") int chunkSize,
+                             MeterRegistry meterRegistry) {
         this.taskRepository = taskRepository;
+        this.schedulerLock = schedulerLock;
+        this.chunkSize = chunkSize;
+        this.chunkRows = DistributionSummary.builder("tasks.late.chunk.rows").register(meterRegistry);
+        this.duration = Timer.builder("tasks.late.duration").register(meterRegistry);
+        this.skipped = Counter.builder("tasks.late.skipped").register(meterRegistry);
     }
 
+    // Marca as tarefas vencidas em UPDATEs por lote, cada um na sua transação,
+    // sem carregar as entidades. Só um nó do cluster executa por vez.
+    @Scheduled(cron = "${tasks.late.cron:0 0 2 * * *}")
+    public int markLateTasks() {
+        int[] total = {0};
+        boolean ran = schedulerLock.runIfAcquired(LOCK_NAME,
+                () -> total[0] = duration.record(() -> markInChunks(LocalDate.now())));
 
-    @Scheduled(cron = "0 0 2 * * *")
-    public void markLateTasks() {
-        LocalDate today = LocalDate.now();
-
-        List<Task> overdueTasks = taskRepository.findByStatusInAndDueDateBefore(
-                List.of(TaskStatus.TO_DO, TaskStatus.IN_PROGRESSO, TaskStatus.REVISION),
-                today
-        );
-
-        if (overdueTasks.isEmpty()) {
-            return;
+        if (!ran) {
+            skipped.increment();
         }
+        return total[0];
+    }
 
-        for (Task task : overdueTasks) {
-            task.setStatus(TaskStatus.LATE);
-        }
+    private int markInChunks(LocalDate today) {
+        int total = 0;
+        List<UUID> marked;
+
+        do {
+            marked = taskRepository.markLate(today, chunkSize);
+            chunkRows.record(marked.size());
+            total += marked.size();
+        } while (marked.size() == chunkSize);
 
-        taskRepository.saveAll(overdueTasks);
+        return total;
     }
 }
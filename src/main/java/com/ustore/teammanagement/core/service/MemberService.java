@@ -1,6 +1,7 @@
 package com.ustore.teammanagement.core.service;
 
 import com.ustore.teammanagement.core.Specifications.MemberSpecification;
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Role;
 import com.ustore.teammanagement.core.repository.MemberRepository;
@@ -9,6 +10,7 @@ import com.ustore.teammanagement.exceptions.ResourceNotFoundException;
 import com.ustore.teammanagement.payload.dto.request.MemberRequest;
 import com.ustore.teammanagement.payload.dto.request.MemberUpdateRequest;
 import com.ustore.teammanagement.payload.dto.response.MemberResponse;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,16 +20,19 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersions;
 
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder) {
+    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, TokenVersionRegistry tokenVersions) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenVersions = tokenVersions;
     }
 
     public void emailExiste(String email) {
@@ -77,37 +82,44 @@ public class MemberService {
     }
 
     @Transactional
-    public MemberResponse update(UUID id, MemberUpdateRequest memberUpdateRequest) throws AccessDeniedException {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String emailLogado = auth.getName();
-
-        var memberLogado = memberRepository.findByEmail(emailLogado).orElseThrow(() -> new ResourceNotFoundException("Membro logado não encontrado"));
+    public MemberResponse update(UUID id, MemberUpdateRequest memberUpdateRequest, Member memberLogado) throws AccessDeniedException {
         var targetMember = memberRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Membro alvo não encontrado"));
 
-        if (!(memberLogado.getRole().equals(Role.ADMIN) || memberLogado.getRole().equals(Role.MANAGER))
+        if (!memberLogado.hasAnyRole(Role.ADMIN, Role.MANAGER)
                         && !targetMember.getId().equals(memberLogado.getId())
         ) {throw new AccessDeniedException("Acesso negado: você não tem permissão para atualizar este membro.");
         }
+        Role previousRole = targetMember.getRole();
+        MemberStatus previousStatus = targetMember.getStatus();
+        String previousEmail = targetMember.getEmail();
+        String previousName = targetMember.getName();
+
         memberUpdateRequest.updateMember(targetMember, memberUpdateRequest);
 
+        // Role, status, email e nome vão dentro do token de acesso (o nome vira
+        // createdBy e autor das atividades): se mudarem, os tokens antigos são revogados.
+        if (!Objects.equals(previousRole, targetMember.getRole())
+                || !Objects.equals(previousStatus, targetMember.getStatus())
+                || !Objects.equals(previousEmail, targetMember.getEmail())
+                || !Objects.equals(previousName, targetMember.getName())) {
+            tokenVersions.revoke(targetMember);
+        }
+
         var updatedMember = memberRepository.save(targetMember);
         return new MemberResponse(updatedMember);
     }
 
     @Transactional
-    public void inactivateMember(UUID id) throws AccessDeniedException {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String emailLogado = auth.getName();
-
-        var memberLogado = memberRepository.findByEmail(emailLogado).orElseThrow(() -> new ResourceNotFoundException("Membro logado não encontrado"));
+    public void inactivateMember(UUID id, Member memberLogado) throws AccessDeniedException {
         var targetMember = memberRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Membro alvo não encontrado"));
 
-        if (!(memberLogado.getRole().equals(Role.ADMIN) || memberLogado.getRole().equals(Role.MANAGER))
+        if (!memberLogado.hasAnyRole(Role.ADMIN, Role.MANAGER)
                 && !targetMember.getId().equals(memberLogado.getId())) {
             throw new AccessDeniedException("Acesso negado: você não tem permissão para inativar este membro.");
         }
 
         targetMember.setStatus(MemberStatus.INACTIVE);
+        tokenVersions.revoke(targetMember);
         memberRepository.save(targetMember);
     }
 }
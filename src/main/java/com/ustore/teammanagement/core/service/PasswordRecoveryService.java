@@ -7,32 +7,41 @@ import com.ustore.teammanagement.core.repository.PasswordRecovery;
 import com.ustore.teammanagement.payload.dto.request.ForgotPasswordRequest;
 import com.ustore.teammanagement.payload.dto.request.ResetPasswordRequest;
 import com.ustore.teammanagement.payload.dto.response.RecoveryTokenResponse;
+import com.ustore.teammanagement.security.TokenDigest;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.UUID;
 
 @Service
 public class PasswordRecoveryService {
+    // SecureRandom é thread-safe; uma instância compartilhada evita semear um gerador a cada pedido.
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final MemberRepository memberRepository;
     private final PasswordRecovery tokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionRegistry tokenVersions;
 
     public PasswordRecoveryService(MemberRepository memberRepository,
                                    PasswordRecovery tokenRepository,
-                                   PasswordEncoder passwordEncoder) {
+                                   PasswordEncoder passwordEncoder,
+                                   TokenVersionRegistry tokenVersions) {
         this.memberRepository = memberRepository;
         this.tokenRepository = tokenRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenVersions = tokenVersions;
     }
 
     private String generateSecureToken() {
-        SecureRandom random = new SecureRandom();
         byte[] bytes = new byte[32]; // 256 bits
-        random.nextBytes(bytes);
+        RANDOM.nextBytes(bytes);
 
         return Base64.getUrlEncoder()
                 .withoutPadding()
@@ -46,7 +55,7 @@ public class PasswordRecoveryService {
         String token = generateSecureToken();
 
         PasswordRecoveryToken recoveryToken = new PasswordRecoveryToken();
-        recoveryToken.setToken(token);
+        recoveryToken.setToken(TokenDigest.sha256(token));
         recoveryToken.setMember(member);
         recoveryToken.setExpiration(LocalDateTime.now().plusMinutes(30)); // mais seguro
         recoveryToken.setUsed(false);
@@ -56,20 +65,14 @@ public class PasswordRecoveryService {
         return new RecoveryTokenResponse(token);
     }
 
+    @Transactional
     public void resetPassword(ResetPasswordRequest request) {
-        PasswordRecoveryToken tokenEntity = tokenRepository.findByTokenAndUsedFalse(request.token())
+        // Marca como usado só se ainda não foi usado e não expirou: dois resets
+        // concorrentes com o mesmo token não passam os dois.
+        UUID memberId = tokenRepository.consume(TokenDigest.sha256(request.token()), LocalDateTime.now())
                 .orElseThrow(() -> new IllegalArgumentException("Token inválido ou expirado."));
 
-        if (tokenEntity.getExpiration().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Token expirado.");
-        }
-
-        Member member = tokenEntity.getMember();
-        member.setPassword(passwordEncoder.encode(request.newPassword()));
-        memberRepository.save(member);
-
-        tokenEntity.setUsed(true);
-        tokenRepository.save(tokenEntity);
+        memberRepository.updatePasswordAndRevokeTokens(memberId, passwordEncoder.encode(request.newPassword()));
+        tokenVersions.forget(memberId);
     }
 }
-
@@ -0,0 +1,37 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.repository.PasswordRecovery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class RecoveryTokenPurgeScheduler {
+
+    private final PasswordRecovery tokenRepository;
+    private final int chunkSize;
+
+    public RecoveryTokenPurgeScheduler(PasswordRecovery tokenRepository,
+                                       @Value("${password-recovery.purge.chunk-size:1000}") int chunkSize) {
+        this.tokenRepository = tokenRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    // Apaga tokens usados ou expirados em lotes, cada lote na sua própria
+    // transação, para não segurar locks na tabela inteira.
+    @Scheduled(cron = "${password-recovery.purge.cron:0 30 3 * * *}")
+    public int purgeUsedAndExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = tokenRepository.deleteUsedOrExpired(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        return total;
+    }
+}
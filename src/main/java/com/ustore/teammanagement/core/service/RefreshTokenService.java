@@ -0,0 +1,119 @@
+package com.ustore.teammanagement.core.service;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.RefreshTokenFamily;
+import com.ustore.teammanagement.core.repository.AuthTokenService;
+import com.ustore.teammanagement.core.repository.RefreshTokenFamilyRepository;
+import com.ustore.teammanagement.exceptions.InvalidTokenException;
+import com.ustore.teammanagement.payload.dto.response.LoginResponse;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Rotação de refresh tokens. A tabela refresh_token_family é a fonte da
+// verdade: girar o token é um único UPDATE condicional pela PK, que também
+// resolve refreshes concorrentes. Em memória ficam só as famílias revogadas,
+// para recusar reuso repetido sem ir ao banco; o purge agendado limpa ambos.
+@Service
+public class RefreshTokenService implements AuthTokenService {
+
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final TokenService tokenService;
+    private final TokenVersionRegistry tokenVersions;
+    private final Duration lifetime;
+    private final ConcurrentHashMap<UUID, Instant> revokedFamilies = new ConcurrentHashMap<>();
+
+    public RefreshTokenService(RefreshTokenFamilyRepository familyRepository,
+                               TokenService tokenService,
+                               TokenVersionRegistry tokenVersions,
+                               @Value("${security.refresh-token.lifetime-hours:168}") long lifetimeHours) {
+        this.familyRepository = familyRepository;
+        this.tokenService = tokenService;
+        this.tokenVersions = tokenVersions;
+        this.lifetime = Duration.ofHours(lifetimeHours);
+    }
+
+    @Transactional
+    public String issue(Member member) {
+        Instant expiresAt = Instant.now().plus(lifetime);
+        UUID tokenId = UUID.randomUUID();
+
+        RefreshTokenFamily family = familyRepository.save(
+                new RefreshTokenFamily(member, tokenId, toLocalDateTime(expiresAt)));
+
+        return tokenService.generateRefreshToken(member, family.getId(), tokenId, expiresAt);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public LoginResponse refresh(String refreshToken) {
+        DecodedJWT decodedJWT;
+        Member member;
+        UUID familyId;
+        UUID tokenId;
+        try {
+            decodedJWT = tokenService.verifyRefreshToken(refreshToken);
+            member = tokenService.toPrincipal(decodedJWT);
+            familyId = tokenService.refreshFamilyId(decodedJWT);
+            tokenId = tokenService.refreshTokenId(decodedJWT);
+        } catch (JWTVerificationException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Refresh token inválido");
+        }
+
+        Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+
+        if (revokedFamilies.containsKey(familyId)) {
+            throw new InvalidTokenException("Refresh token revogado");
+        }
+
+        if (!tokenVersions.isCurrent(member.getId(), member.getTokenVersion())) {
+            revoke(familyId, expiresAt);
+            throw new InvalidTokenException("Refresh token revogado");
+        }
+
+        UUID nextTokenId = UUID.randomUUID();
+        int rotated = familyRepository.rotate(familyId, tokenId, nextTokenId, LocalDateTime.now());
+
+        // Nenhuma linha girada: token já usado (reuso), família revogada ou expirada.
+        if (rotated == 0) {
+            revoke(familyId, expiresAt);
+            throw new InvalidTokenException("Refresh token reutilizado ou expirado");
+        }
+
+        return new LoginResponse(
+                tokenService.generateToken(member),
+                tokenService.generateRefreshToken(member, familyId, nextTokenId, expiresAt),
+                "Bearer",
+                3600
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        familyRepository.deleteExpired(LocalDateTime.now());
+
+        Instant now = Instant.now();
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    }
+
+    private void revoke(UUID familyId, Instant expiresAt) {
+        familyRepository.revoke(familyId);
+        revokedFamilies.put(familyId, expiresAt);
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,55 @@
+package com.ustore.teammanagement.core.service;
+
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Garante que um job agendado rode em um único nó por vez usando advisory
+// lock de sessão do Postgres. O lock fica preso à conexão reservada aqui:
+// se o nó cair no meio do job, a conexão fecha e o lock é liberado.
+// Fora do Postgres (H2 em dev/teste) o job roda sem lock.
+@Component
+public class SchedulerLock {
+
+    private final DataSource dataSource;
+
+    public SchedulerLock(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // Retorna false, sem executar o job, quando outro nó já está com o lock.
+    public boolean runIfAcquired(String name, Runnable job) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                job.run();
+                return true;
+            }
+
+            if (!call(connection, "SELECT pg_try_advisory_lock(hashtext(?))", name)) {
+                return false;
+            }
+            try {
+                job.run();
+                return true;
+            } finally {
+                call(connection, "SELECT pg_advisory_unlock(hashtext(?))", name);
+            }
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Falha ao obter o lock do job " + name, e);
+        }
+    }
+
+    private static boolean call(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
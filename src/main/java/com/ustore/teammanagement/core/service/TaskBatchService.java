@@ -0,0 +1,303 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.Specifications.TaskSpecification;
+import com.ustore.teammanagement.core.entity.Activity;
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.ActivityAction;
+import com.ustore.teammanagement.core.enums.FilterMatch;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.repository.ActivityRepository;
+import com.ustore.teammanagement.core.repository.MemberRepository;
+import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.exceptions.ResourceNotFoundException;
+import com.ustore.teammanagement.payload.dto.request.TaskBulkUpdateRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskFilterRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchItem;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskBulkUpdateResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Operações em lote sobre tarefas. Criação: os responsáveis são carregados
+// numa única consulta IN e as tarefas/tags vão para o banco em batches JDBC
+// (hibernate.jdbc.batch_size + reWriteBatchedInserts no Postgres).
+// Atualização: UPDATEs por blocos de ids, sem carregar as entidades, com uma
+// atividade por tarefa alterada. Depois do commit, o DueDateScheduler é
+// atualizado com as tarefas de cada bloco.
+@Service
+public class TaskBatchService {
+
+    private final TaskRepository taskRepository;
+    private final MemberRepository memberRepository;
+    private final ActivityRepository activityRepository;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final LateTaskPolicy lateTaskPolicy;
+    private final DueDateScheduler dueDateScheduler;
+    private final int chunkSize;
+
+    public TaskBatchService(TaskRepository taskRepository, MemberRepository memberRepository,
+                            ActivityRepository activityRepository, Validator validator,
+                            EntityManager entityManager, LateTaskPolicy lateTaskPolicy,
+                            DueDateScheduler dueDateScheduler,
+                            @Value("${tasks.bulk.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.memberRepository = memberRepository;
+        this.activityRepository = activityRepository;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.lateTaskPolicy = lateTaskPolicy;
+        this.dueDateScheduler = dueDateScheduler;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public TaskBatchResponse createTasks(List<TaskRequest> requests, Member memberLogado) throws AccessDeniedException {
+        if (!memberLogado.hasAnyRole(Role.ADMIN, Role.MANAGER)) {
+            throw new AccessDeniedException("Acesso negado. Apenas ADMIN e MANAGER podem criar tarefas.");
+        }
+
+        Set<UUID> assigneeIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequest::assigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<UUID, Member> assignees = memberRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        TaskBatchItem[] items = new TaskBatchItem[requests.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            List<String> errors = validate(request, assignees);
+            if (!errors.isEmpty()) {
+                items[i] = TaskBatchItem.failed(i, errors);
+                continue;
+            }
+
+            Task task = request.toTask();
+            task.setCreatedBy(memberLogado);
+            task.setAssignee(assignees.get(request.assigneeId()));
+            tasks.add(task);
+            positions.add(i);
+        }
+
+        taskRepository.saveAll(tasks);
+        activityRepository.saveAll(tasks.stream()
+                .map(task -> new Activity(task, ActivityAction.CREATED, memberLogado))
+                .toList());
+        taskRepository.flush();
+        AfterCommit.run(() -> tasks.forEach(dueDateScheduler::track));
+
+        for (int i = 0; i < tasks.size(); i++) {
+            items[positions.get(i)] = TaskBatchItem.created(positions.get(i), tasks.get(i).getId());
+        }
+        return new TaskBatchResponse(tasks.size(), requests.size() - tasks.size(), List.of(items));
+    }
+
+    private List<String> validate(TaskRequest request, Map<UUID, Member> assignees) {
+        if (request == null) {
+            return List.of("Tarefa não informada");
+        }
+
+        List<String> errors = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (request.assigneeId() != null) {
+            Member assignee = assignees.get(request.assigneeId());
+            if (assignee == null) {
+                errors.add("Responsável não encontrado");
+            } else if (assignee.getStatus() == MemberStatus.INACTIVE) {
+                errors.add("Tarefa não pode ser atribuída a um membro desativado.");
+            }
+        }
+        return errors;
+    }
+
+    @Transactional
+    public TaskBulkUpdateResponse updateTasks(TaskBulkUpdateRequest request, Member memberLogado) throws AccessDeniedException {
+        if (!memberLogado.hasAnyRole(Role.ADMIN, Role.MANAGER)) {
+            throw new AccessDeniedException("Acesso negado. Apenas ADMIN e MANAGER podem alterar tarefas em lote.");
+        }
+
+        if (request.assigneeId() != null) {
+            Member assignee = memberRepository.findById(request.assigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Responsável não encontrado"));
+            if (assignee.getStatus() == MemberStatus.INACTIVE) {
+                throw new IllegalStateException("Tarefa não pode ser atribuída a um membro desativado.");
+            }
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int matched = 0;
+        int updated = 0;
+
+        if (request.ids() != null && !request.ids().isEmpty()) {
+            List<UUID> ids = request.ids().stream().filter(Objects::nonNull).distinct().toList();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                matched += chunk.size();
+                updated += update(chunk, request, now, memberLogado);
+                refreshAfterCommit(chunk, request);
+            }
+        } else {
+            // Paginação por id (keyset): a alteração de status não desloca os
+            // blocos seguintes, mesmo que a tarefa deixe de casar com o filtro.
+            Specification<Task> spec = filterSpec(request.filter());
+            UUID after = null;
+            List<UUID> chunk;
+            do {
+                chunk = findIds(spec, after);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                matched += chunk.size();
+                updated += update(chunk, request, now, memberLogado);
+                refreshAfterCommit(chunk, request);
+                after = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == chunkSize);
+        }
+
+        return new TaskBulkUpdateResponse(matched, updated, matched - updated);
+    }
+
+    // Só a mudança de status tira a tarefa da janela de prazos (ou a devolve).
+    private void refreshAfterCommit(List<UUID> chunk, TaskBulkUpdateRequest request) {
+        if (request.status() != null) {
+            List<UUID> ids = List.copyOf(chunk);
+            AfterCommit.run(() -> dueDateScheduler.refresh(ids));
+        }
+    }
+
+    private Specification<Task> filterSpec(TaskFilterRequest filter) {
+        return TaskSpecification.withFilters(filter.title(), filter.project(), filter.status(), filter.priority(),
+                        filter.assigneeName(), filter.createdByName(), filter.dueDateFrom(), filter.dueDateTo(),
+                        filter.onlyOverdue(), FilterMatch.ALL, lateTaskPolicy.isDerived())
+                .and(TaskSpecification.withAssigneeId(filter.assigneeId()));
+    }
+
+    private List<UUID> findIds(Specification<Task> spec, UUID after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Task> root = query.from(Task.class);
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec.toPredicate(root, query, cb);
+        if (filter == null) {
+            // Sem nenhum critério efetivo o lote alteraria todas as tarefas.
+            throw new IllegalArgumentException("Informe ids ou um filtro com ao menos um critério");
+        }
+        predicates.add(filter);
+        if (after != null) {
+            predicates.add(cb.greaterThan(root.get("id"), after));
+        }
+
+        query.select(root.get("id")).where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(query).setMaxResults(chunkSize).getResultList();
+    }
+
+    // Resolve as tarefas do bloco que serão alteradas (id, título, projeto e
+    // status para a atividade), aplica o UPDATE só nesses ids e grava as
+    // atividades. O contexto é limpo a cada bloco para não acumular entidades.
+    private int update(List<UUID> ids, TaskBulkUpdateRequest request, OffsetDateTime now, Member memberLogado) {
+        List<Tuple> targets = findTargets(ids, request);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> targetIds = targets.stream().map(target -> target.get(0, UUID.class)).toList();
+        int updated = executeUpdate(targetIds, request, now);
+
+        activityRepository.saveAll(targets.stream()
+                .map(target -> {
+                    boolean completed = request.status() == TaskStatus.COMPLETED
+                            && target.get(3, TaskStatus.class) != TaskStatus.COMPLETED;
+                    return new Activity(target.get(0, UUID.class), target.get(1, String.class), target.get(2, String.class),
+                            completed ? ActivityAction.COMPLETED : ActivityAction.UPDATED, memberLogado);
+                })
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+        return updated;
+    }
+
+    // Sem troca de responsável, tarefas de membros desativados ficam de fora,
+    // como em updateTask.
+    private List<Tuple> findTargets(List<UUID> ids, TaskBulkUpdateRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        Predicate byIds = root.get("id").in(ids);
+        if (request.assigneeId() == null) {
+            Subquery<UUID> inactive = query.subquery(UUID.class);
+            Root<Member> member = inactive.from(Member.class);
+            inactive.select(member.get("id"))
+                    .where(cb.equal(member.get("id"), root.get("assignee").get("id")),
+                            cb.equal(member.get("status"), MemberStatus.INACTIVE));
+            byIds = cb.and(byIds, cb.not(cb.exists(inactive)));
+        }
+
+        query.multiselect(root.get("id"), root.get("title"), root.get("project"), root.get("status")).where(byIds);
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // O UPDATE não passa pelo @PreUpdate: updatedAt e completedAt são
+    // mantidos aqui.
+    private int executeUpdate(List<UUID> ids, TaskBulkUpdateRequest request, OffsetDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        update.set(root.<OffsetDateTime>get("updatedAt"), now);
+        if (request.status() != null) {
+            update.set(root.<TaskStatus>get("status"), request.status());
+            if (request.status() == TaskStatus.COMPLETED) {
+                update.set(root.<OffsetDateTime>get("completedAt"), cb.coalesce(root.<OffsetDateTime>get("completedAt"), now));
+            } else {
+                update.set(root.<OffsetDateTime>get("completedAt"), cb.nullLiteral(OffsetDateTime.class));
+            }
+        }
+        if (request.priority() != null) {
+            update.set(root.get("priority"), request.priority());
+        }
+        if (request.assigneeId() != null) {
+            update.set(root.get("assignee"), entityManager.getReference(Member.class, request.assigneeId()));
+        }
+
+        return entityManager.createQuery(update.where(root.get("id").in(ids))).executeUpdate();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ustore.teammanagement.core.service;
+
+import java.util.List;
+import java.util.UUID;
+
+// Publicado pelo DueDateScheduler com as tarefas cujo lembrete venceu no tick.
+// Cada nó publica os lembretes dos timers que ele carregou: quem entregar a
+// notificação deve ignorar repetidos.
+public record TaskDueReminderEvent(List<UUID> taskIds) {
+}
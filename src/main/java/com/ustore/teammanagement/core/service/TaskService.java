@@ -1,46 +1,64 @@
 package com.ustore.teammanagement.core.service;
 
 import com.ustore.teammanagement.core.Specifications.TaskSpecification;
+import com.ustore.teammanagement.core.entity.Activity;
 import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.ActivityAction;
+import com.ustore.teammanagement.core.enums.FilterMatch;
 import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.Role;
 import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.repository.ActivityRepository;
 import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.TaskTag;
 import com.ustore.teammanagement.exceptions.ResourceNotFoundException;
 import com.ustore.teammanagement.payload.dto.request.TaskRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskUpdateRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskCursorPage;
 import com.ustore.teammanagement.payload.dto.response.TaskResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class TaskService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
     private final MemberRepository memberRepository;
+    private final LateTaskPolicy lateTaskPolicy;
+    private final DueDateScheduler dueDateScheduler;
+    private final ActivityRepository activityRepository;
 
-    public TaskService(TaskRepository taskRepository, MemberRepository memberRepository) {
+    public TaskService(TaskRepository taskRepository, MemberRepository memberRepository, LateTaskPolicy lateTaskPolicy,
+                       DueDateScheduler dueDateScheduler, ActivityRepository activityRepository) {
         this.taskRepository = taskRepository;
         this.memberRepository = memberRepository;
+        this.lateTaskPolicy = lateTaskPolicy;
+        this.dueDateScheduler = dueDateScheduler;
+        this.activityRepository = activityRepository;
     }
 
-    public TaskResponse createTask(TaskRequest request) throws AccessDeniedException {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getName();
-
-        var memberLogado = memberRepository.findByEmail(email).orElseThrow(
-                () -> new ResourceNotFoundException("Membro logado não encontrado"));
-
-        Role role = memberLogado.getRole();
-        if (role != Role.ADMIN && role != Role.MANAGER) {
+    // Tarefa e atividade são gravadas na mesma transação; a roda de prazos só
+    // é atualizada depois do commit.
+    @Transactional
+    public TaskResponse createTask(TaskRequest request, Member memberLogado) throws AccessDeniedException {
+        if (!memberLogado.hasAnyRole(Role.ADMIN, Role.MANAGER)) {
             throw new AccessDeniedException("Acesso negado. Apenas ADMIN e MANAGER podem criar tarefas.");
         }
 
@@ -56,39 +74,99 @@ public class TaskService {
 
         task.setAssignee(assignee);
         var savedTask = taskRepository.save(task);
-        return new TaskResponse(savedTask);
+        activityRepository.save(new Activity(savedTask, ActivityAction.CREATED, memberLogado));
+        AfterCommit.run(() -> dueDateScheduler.track(savedTask));
+        return toResponse(savedTask, savedTask.getTags());
     }
 
     public Page<TaskResponse> filter(String title, String project, TaskStatus status, Priority priority, String assigneeName, String createdByName,
-                                     LocalDate dueDateFrom, LocalDate dueDateTo, Boolean onlyOverdue , Pageable pageable) {
-        return taskRepository.findAll(
-                TaskSpecification.withFilters(title, project, status, priority, assigneeName, createdByName, dueDateFrom, dueDateTo, onlyOverdue),
+                                     LocalDate dueDateFrom, LocalDate dueDateTo, Boolean onlyOverdue, String q, FilterMatch match, Pageable pageable) {
+        Page<Task> page = taskRepository.findAll(
+                TaskSpecification.fetchMembers()
+                        .and(TaskSpecification.withFilters(title, project, status, priority, assigneeName, createdByName, dueDateFrom, dueDateTo, onlyOverdue, match, lateTaskPolicy.isDerived()))
+                        .and(TaskSpecification.withSearch(q)),
                 pageable
-        ).map(TaskResponse::new);
+        );
+
+        Map<UUID, List<String>> tags = findTags(page.getContent());
+        return page.map(task -> toResponse(task, tags.getOrDefault(task.getId(), new ArrayList<>())));
+    }
+
+    private TaskResponse toResponse(Task task, List<String> tags) {
+        return new TaskResponse(task, tags, lateTaskPolicy.statusOf(task));
+    }
+
+    // Uma consulta de tags por página, em vez de inicializar a coleção de cada tarefa.
+    private Map<UUID, List<String>> findTags(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> ids = tasks.stream().map(Task::getId).toList();
+        Map<UUID, List<String>> tags = new HashMap<>();
+        for (TaskTag row : taskRepository.findTagsByTaskIds(ids)) {
+            tags.computeIfAbsent(row.taskId(), id -> new ArrayList<>()).add(row.tag());
+        }
+        return tags;
+    }
+
+    // Modo cursor: busca pela posição (createdAt, id) direto no índice, sem
+    // descartar linhas de páginas anteriores e sem a consulta de contagem.
+    public TaskCursorPage scroll(String title, String project, TaskStatus status, Priority priority, String assigneeName, String createdByName,
+                                 LocalDate dueDateFrom, LocalDate dueDateTo, Boolean onlyOverdue, String q, FilterMatch match,
+                                 String cursor, int size, Sort.Direction direction) {
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        Sort.Direction order = position != null ? position.direction() : direction;
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Window<Task> window = taskRepository.findBy(
+                TaskSpecification.fetchMembers()
+                        .and(TaskSpecification.withFilters(title, project, status, priority, assigneeName, createdByName, dueDateFrom, dueDateTo, onlyOverdue, match, lateTaskPolicy.isDerived()))
+                        .and(TaskSpecification.withSearch(q)),
+                query -> query.sortBy(KeysetCursor.sort(order))
+                        .limit(limit)
+                        .scroll(position != null ? position.position() : ScrollPosition.keyset())
+        );
+
+        List<Task> tasks = window.getContent();
+        Map<UUID, List<String>> tags = findTags(tasks);
+        List<TaskResponse> content = tasks.stream()
+                .map(task -> toResponse(task, tags.getOrDefault(task.getId(), new ArrayList<>())))
+                .toList();
+
+        String nextCursor = null;
+        if (window.hasNext() && !tasks.isEmpty()) {
+            Task last = tasks.get(tasks.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId(), order).encode();
+        }
+        return new TaskCursorPage(content, nextCursor, nextCursor != null);
     }
 
-    public TaskResponse updateTask(UUID taskId, TaskUpdateRequest updateRequest) {
+    @Transactional
+    public TaskResponse updateTask(UUID taskId, TaskUpdateRequest updateRequest, Member memberLogado) {
         var task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada"));
+        TaskStatus previousStatus = task.getStatus();
         updateRequest.updateTask(task, updateRequest);
 
+        if (updateRequest.assigneeId() != null) {
+            task.setAssignee(memberRepository.findById(updateRequest.assigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Responsável não encontrado")));
+        }
+
         if (task.getAssignee() != null && task.getAssignee().getStatus() == MemberStatus.INACTIVE) {
             throw new IllegalStateException("Tarefa não pode ser atribuída a um membro desativado.");
         }
 
         taskRepository.save(task);
-        return new TaskResponse(task);
+        boolean completed = task.getStatus() == TaskStatus.COMPLETED && previousStatus != TaskStatus.COMPLETED;
+        activityRepository.save(new Activity(task, completed ? ActivityAction.COMPLETED : ActivityAction.UPDATED, memberLogado));
+        AfterCommit.run(() -> dueDateScheduler.track(task));
+        return toResponse(task, task.getTags());
     }
 
-    public void deleteTask(UUID taskId) throws AccessDeniedException {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String emailLogado = auth.getName();
-
-        var member = memberRepository.findByEmail(emailLogado)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuário logado não encontrado"));
-
-        if (!(member.getRole().equals(Role.ADMIN)
-                || member.getRole().equals(Role.MANAGER))) {
+    public void deleteTask(UUID taskId, Member memberLogado) throws AccessDeniedException {
+        if (!memberLogado.hasAnyRole(Role.ADMIN, Role.MANAGER)) {
             throw new AccessDeniedException("Você não tem permissão para atualizar tarefas.");
         }
 
@@ -96,5 +174,6 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada"));
 
         taskRepository.delete(task);
+        dueDateScheduler.untrack(taskId);
     }
 }
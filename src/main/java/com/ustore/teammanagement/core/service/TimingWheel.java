@@ -0,0 +1,96 @@
+package com.ustore.teammanagement.core.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Hashed timing wheel: cada timer cai no bucket (tick % tamanho) do seu prazo.
+// Agendar e cancelar são O(1); avançar visita só os buckets dos ticks que
+// passaram, e um timer com prazo a mais de uma volta fica no bucket até o
+// tick absoluto dele chegar. Uma chave tem no máximo um timer: agendar de novo
+// substitui o anterior.
+class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final Set<K>[] buckets;
+    private final int mask;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(Duration tick, int size, Instant start) {
+        if (tick.toMillis() <= 0 || size <= 0) {
+            throw new IllegalArgumentException("Tick e tamanho da roda devem ser positivos");
+        }
+        this.tickMillis = tick.toMillis();
+        int capacity = Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+        this.buckets = new Set[capacity];
+        for (int i = 0; i < capacity; i++) {
+            buckets[i] = new LinkedHashSet<>();
+        }
+        this.mask = capacity - 1;
+        this.currentTick = start.toEpochMilli() / tickMillis;
+    }
+
+    // Prazo já vencido dispara no próximo advance.
+    synchronized void schedule(K key, Instant deadline) {
+        cancel(key);
+        long tick = Math.max(deadline.toEpochMilli() / tickMillis, currentTick + 1);
+        buckets[bucket(tick)].add(key);
+        deadlines.put(key, tick);
+    }
+
+    synchronized boolean cancel(K key) {
+        Long tick = deadlines.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        buckets[bucket(tick)].remove(key);
+        return true;
+    }
+
+    // Devolve as chaves com prazo até now.
+    synchronized List<K> advance(Instant now) {
+        long target = now.toEpochMilli() / tickMillis;
+        if (target <= currentTick) {
+            return List.of();
+        }
+
+        List<K> expired = new ArrayList<>();
+        long steps = Math.min(target - currentTick, buckets.length);
+        for (long step = 1; step <= steps; step++) {
+            Iterator<K> keys = buckets[bucket(currentTick + step)].iterator();
+            while (keys.hasNext()) {
+                K key = keys.next();
+                if (deadlines.get(key) <= target) {
+                    keys.remove();
+                    deadlines.remove(key);
+                    expired.add(key);
+                }
+            }
+        }
+        currentTick = target;
+        return expired;
+    }
+
+    synchronized void clear() {
+        for (Set<K> bucket : buckets) {
+            bucket.clear();
+        }
+        deadlines.clear();
+    }
+
+    synchronized int size() {
+        return deadlines.size();
+    }
+
+    private int bucket(long tick) {
+        return (int) (tick & mask);
+    }
+}
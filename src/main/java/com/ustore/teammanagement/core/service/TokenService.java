@@ -1,79 +1,150 @@
 package com.ustore.teammanagement.core.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.ustore.teammanagement.core.entity.Member;
-import com.ustore.teammanagement.core.repository.AuthTokenService;
-import com.ustore.teammanagement.core.repository.MemberRepository;
-import com.ustore.teammanagement.exceptions.UserNotFoundException;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.UUID;
 
 @Service
-public class TokenService implements AuthTokenService {
+public class TokenService {
+
+    private static final String CLAIM_MEMBER_ID = "id";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_STATUS = "status";
+    private static final String CLAIM_VERSION = "ver";
+    private static final String CLAIM_FAMILY = "fid";
 
     @Value("${JWT_SECRET}")
     private String securityJwt;
 
-    private final MemberRepository memberRepository;
-
-    public TokenService(MemberRepository memberRepository) {
-        this.memberRepository = memberRepository;
-    }
+    private volatile Algorithm algorithm;
+    private volatile JWTVerifier accessVerifier;
+    private volatile JWTVerifier refreshVerifier;
 
     public String generateToken(Member member){
-        return JWT.create().withIssuer("Team Management App")
-                .withSubject(member.getEmail()).withExpiresAt(dateExpiration(1))
+        return withMemberClaims(JWT.create().withIssuer("Team Management App"), member)
+                .withExpiresAt(dateExpiration(1))
                 .withClaim("type", "access")
-                .sign(Algorithm.HMAC256(securityJwt));
+                .sign(algorithm());
     }
 
-    public String getSubject(String token) {
-        Algorithm algorithm = Algorithm.HMAC256(securityJwt);
-        JWTVerifier verifier = JWT.require(algorithm)
-                .withIssuer("Team Management App")
-                .withClaim("type", "access")
-                .build();
+    // O refresh token leva os mesmos claims do membro, então o refresh gera um
+    // novo access token sem consultar a tabela member.
+    public String generateRefreshToken(Member member, UUID familyId, UUID tokenId, Instant expiresAt){
+        return withMemberClaims(JWT.create().withIssuer("Team Management App"), member)
+                .withExpiresAt(expiresAt)
+                .withClaim("type", "refresh")
+                .withClaim(CLAIM_FAMILY, familyId.toString())
+                .withJWTId(tokenId.toString())
+                .sign(algorithm());
+    }
 
-        DecodedJWT decodedJWT = verifier.verify(token);
-        return decodedJWT.getSubject();
+    private JWTCreator.Builder withMemberClaims(JWTCreator.Builder builder, Member member) {
+        return builder
+                .withSubject(member.getEmail())
+                .withClaim(CLAIM_MEMBER_ID, member.getId() != null ? member.getId().toString() : null)
+                .withClaim(CLAIM_NAME, member.getName())
+                .withClaim(CLAIM_ROLE, member.getRole() != null ? member.getRole().name() : null)
+                .withClaim(CLAIM_STATUS, member.getStatus() != null ? member.getStatus().name() : null)
+                .withClaim(CLAIM_VERSION, member.getTokenVersion());
     }
 
+    public UUID refreshFamilyId(DecodedJWT decodedJWT) {
+        String familyId = decodedJWT.getClaim(CLAIM_FAMILY).asString();
+        if (familyId == null) {
+            throw new IllegalArgumentException("Refresh token sem família");
+        }
+        return UUID.fromString(familyId);
+    }
 
-    private Instant dateExpiration(int hours){
-        return LocalDateTime.now().plusHours(hours).toInstant(ZoneOffset.of("-03:00"));
+    public UUID refreshTokenId(DecodedJWT decodedJWT) {
+        if (decodedJWT.getId() == null || decodedJWT.getExpiresAtAsInstant() == null) {
+            throw new IllegalArgumentException("Refresh token sem identificador");
+        }
+        return UUID.fromString(decodedJWT.getId());
     }
 
-    @Override
-    public String refreshAccessToken(String token) {
-        JWTVerifier jwtVerifier = JWT.require(Algorithm.HMAC256(securityJwt))
-                .withIssuer("Team Management App")
-                .withClaim("type", "refresh").build();
-        DecodedJWT decodedJWT = jwtVerifier.verify(token);
-        String userEmail = decodedJWT.getSubject();
+    // Monta o principal apenas com os claims do token, sem consultar o banco.
+    public Member toPrincipal(DecodedJWT decodedJWT) {
+        String memberId = decodedJWT.getClaim(CLAIM_MEMBER_ID).asString();
+        String role = decodedJWT.getClaim(CLAIM_ROLE).asString();
+        String status = decodedJWT.getClaim(CLAIM_STATUS).asString();
+        Integer version = decodedJWT.getClaim(CLAIM_VERSION).asInt();
 
-        Member member = this.memberRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException(String.format("User not found with e-mail: %s", userEmail)));
+        if (memberId == null || role == null || status == null || version == null) {
+            throw new IllegalArgumentException("Token sem os claims do membro");
+        }
 
-        return this.generateToken(member);
+        Member member = Member.builder()
+                .id(UUID.fromString(memberId))
+                .email(decodedJWT.getSubject())
+                .name(decodedJWT.getClaim(CLAIM_NAME).asString())
+                .role(Role.valueOf(role))
+                .status(MemberStatus.valueOf(status))
+                .build();
+        member.setTokenVersion(version);
+        return member;
     }
 
-    public String generateRefreshToken(Member member){
-        return JWT.create().withIssuer("Team Management App")
-                .withSubject(member.getEmail())
-                .withExpiresAt(expirationHours(24 * 7))
-                .withClaim("type", "refresh")
-                .sign(Algorithm.HMAC256(securityJwt));
+    public String getSubject(String token) {
+        return verifyAccessToken(token).getSubject();
+    }
+
+    public DecodedJWT verifyAccessToken(String token) {
+        return accessVerifier().verify(token);
+    }
+
+    public DecodedJWT verifyRefreshToken(String token) {
+        return refreshVerifier().verify(token);
+    }
+
+    // Algorithm e JWTVerifier são imutáveis e thread-safe: criados uma vez e reaproveitados.
+    private Algorithm algorithm() {
+        Algorithm current = algorithm;
+        if (current == null) {
+            current = Algorithm.HMAC256(securityJwt);
+            algorithm = current;
+        }
+        return current;
     }
 
-    private Instant expirationHours(long hours) {
-        return LocalDateTime.now()
-                .plusHours(hours)
-                .toInstant(ZoneOffset.of("-03:00"));
+    private JWTVerifier accessVerifier() {
+        JWTVerifier current = accessVerifier;
+        if (current == null) {
+            current = JWT.require(algorithm())
+                    .withIssuer("Team Management App")
+                    .withClaim("type", "access")
+                    .build();
+            accessVerifier = current;
+        }
+        return current;
+    }
+
+    private JWTVerifier refreshVerifier() {
+        JWTVerifier current = refreshVerifier;
+        if (current == null) {
+            current = JWT.require(algorithm())
+                    .withIssuer("Team Management App")
+                    .withClaim("type", "refresh")
+                    .build();
+            refreshVerifier = current;
+        }
+        return current;
+    }
+
+
+    private Instant dateExpiration(int hours){
+        return LocalDateTime.now().plusHours(hours).toInstant(ZoneOffset.of("-03:00"));
     }
 }
@@ -1,7 +1,9 @@
 package com.ustore.teammanagement.core.service;
 
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.exceptions.UserNotFoundException;
+import com.ustore.teammanagement.security.LoginThrottle;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,14 +13,19 @@ import org.springframework.stereotype.Service;
 public class UserDetailServiceImpl implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final LoginThrottle loginThrottle;
 
-    public UserDetailServiceImpl(MemberRepository memberRepository) {
+    public UserDetailServiceImpl(MemberRepository memberRepository, LoginThrottle loginThrottle) {
         this.memberRepository = memberRepository;
+        this.loginThrottle = loginThrottle;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return memberRepository.findByEmail(username)
+        Member member = memberRepository.findByEmail(username)
                 .orElseThrow(() -> new UserNotFoundException(String.format("User not found with email: %s", username)));
+        // Só emails de membros existentes têm as falhas de login gravadas.
+        loginThrottle.resolved(member);
+        return member;
     }
 }
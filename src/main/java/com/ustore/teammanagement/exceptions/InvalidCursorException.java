@@ -0,0 +1,7 @@
+package com.ustore.teammanagement.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
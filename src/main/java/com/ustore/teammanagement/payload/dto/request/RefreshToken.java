@@ -1,4 +1,7 @@
 package com.ustore.teammanagement.payload.dto.request;
 
-public record RefreshToken(String refreshToken) {
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshToken(@NotBlank(message = "Refresh token é obrigatório")
+                           String refreshToken) {
 }
@@ -0,0 +1,15 @@
+package com.ustore.teammanagement.payload.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Os itens não levam @Valid: cada um é validado no serviço e o erro volta
+// no resultado do próprio item, sem rejeitar o lote inteiro.
+public record TaskBatchRequest(
+        @NotEmpty(message = "Informe ao menos uma tarefa")
+        @Size(max = 1000, message = "Máximo de 1000 tarefas por lote")
+        List<TaskRequest> tasks
+) {
+}
@@ -0,0 +1,50 @@
+package com.ustore.teammanagement.payload.dto.request;
+
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Alvo: lista de ids OU filtro (nunca os dois). Mudanças: apenas os campos
+// informados são alterados.
+public record TaskBulkUpdateRequest(
+        @Schema(description = "IDs das tarefas")
+        @Size(max = 10000, message = "Máximo de 10000 tarefas por requisição")
+        List<UUID> ids,
+
+        @Schema(description = "Filtro das tarefas, com os mesmos critérios de GET /tasks")
+        TaskFilterRequest filter,
+
+        TaskStatus status,
+
+        Priority priority,
+
+        UUID assigneeId
+) {
+    @AssertTrue(message = "Informe ids ou um filtro com ao menos um critério")
+    public boolean isTargetValid() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        return hasIds != (filter != null && hasCriteria(filter));
+    }
+
+    // Mesma regra das specifications: texto em branco e onlyOverdue=false não
+    // filtram nada e deixariam o lote alterar a tabela inteira.
+    private static boolean hasCriteria(TaskFilterRequest filter) {
+        return Stream.of(filter.title(), filter.project(), filter.assigneeName(), filter.createdByName())
+                .anyMatch(value -> value != null && !value.isBlank())
+                || Stream.of(filter.status(), filter.priority(), filter.assigneeId(), filter.dueDateFrom(),
+                filter.dueDateTo()).anyMatch(Objects::nonNull)
+                || Boolean.TRUE.equals(filter.onlyOverdue());
+    }
+
+    @AssertTrue(message = "Informe ao menos uma alteração (status, priority ou assigneeId)")
+    public boolean isChangeValid() {
+        return status != null || priority != null || assigneeId != null;
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+// O responsável (assigneeId) é resolvido pelo TaskService, que carrega o membro.
 public record TaskUpdateRequest(
         @Size(min = 2, max = 200, message = "Título deve ter entre 2 e 200 caracteres")
         String title,
@@ -52,8 +53,5 @@ public record TaskUpdateRequest(
         if (taskUpdateRequest.tags() != null) {
             task.setTags(taskUpdateRequest.tags());
         }
-        if (taskUpdateRequest.assigneeId() != null) {
-            task.getAssignee().setId(taskUpdateRequest.assigneeId());
-        }
     }
 }
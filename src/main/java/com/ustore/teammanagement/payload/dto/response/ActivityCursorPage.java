@@ -0,0 +1,10 @@
+package com.ustore.teammanagement.payload.dto.response;
+
+import java.util.List;
+
+public record ActivityCursorPage(
+        List<ActivityResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
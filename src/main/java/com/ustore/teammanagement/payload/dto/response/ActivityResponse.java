@@ -1,10 +1,13 @@
 package com.ustore.teammanagement.payload.dto.response;
 
 import java.time.OffsetDateTime;
+import java.util.UUID;
 
 public record ActivityResponse(
         String authorName,
         String action,
         String taskTitle,
-        OffsetDateTime timestamp
+        OffsetDateTime timestamp,
+        UUID taskId,
+        String project
 ) {}
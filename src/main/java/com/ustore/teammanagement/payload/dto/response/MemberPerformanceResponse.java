@@ -16,6 +16,17 @@ public record MemberPerformanceResponse(
         double avgCompletionTime,
         int trend
 ) {
+    // Construtor usado pela consulta agrupada em MemberRepository.findPerformance.
+    // avgCompletionTime vem em dias e é nulo para quem ainda não concluiu tarefas.
+    public MemberPerformanceResponse(UUID id, String name, Role role, String department,
+                                     long tasksCompleted, long tasksAssigned,
+                                     Double avgCompletionTime, long trend) {
+        this(id, name, role, department, tasksCompleted, tasksAssigned,
+                completionRate(tasksCompleted, tasksAssigned),
+                avgCompletionTime != null ? avgCompletionTime : 0,
+                (int) trend);
+    }
+
     public static MemberPerformanceResponse fromEntity(
             Member member,
             long tasksCompleted,
@@ -23,10 +34,6 @@ public record MemberPerformanceResponse(
             double avgCompletionTime,
             int trend
     ) {
-        double completionRate = tasksAssigned > 0
-                ? (tasksCompleted * 100.0 / tasksAssigned)
-                : 0.0;
-
         return new MemberPerformanceResponse(
                 member.getId(),
                 member.getName(),
@@ -34,9 +41,15 @@ public record MemberPerformanceResponse(
                 member.getDepartment(),
                 tasksCompleted,
                 tasksAssigned,
-                completionRate,
+                completionRate(tasksCompleted, tasksAssigned),
                 avgCompletionTime,
                 trend
         );
     }
+
+    private static double completionRate(long tasksCompleted, long tasksAssigned) {
+        return tasksAssigned > 0
+                ? (tasksCompleted * 100.0 / tasksAssigned)
+                : 0.0;
+    }
 }
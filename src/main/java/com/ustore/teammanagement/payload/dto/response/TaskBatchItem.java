@@ -0,0 +1,18 @@
+package com.ustore.teammanagement.payload.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TaskBatchItem(
+        int index,
+        UUID id,
+        List<String> errors
+) {
+    public static TaskBatchItem created(int index, UUID id) {
+        return new TaskBatchItem(index, id, List.of());
+    }
+
+    public static TaskBatchItem failed(int index, List<String> errors) {
+        return new TaskBatchItem(index, null, errors);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ustore.teammanagement.payload.dto.response;
+
+import java.util.List;
+
+public record TaskBatchResponse(
+        int created,
+        int failed,
+        List<TaskBatchItem> items
+) {
+}
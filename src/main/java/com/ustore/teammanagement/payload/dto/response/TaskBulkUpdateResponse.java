@@ -0,0 +1,8 @@
+package com.ustore.teammanagement.payload.dto.response;
+
+public record TaskBulkUpdateResponse(
+        int matched,
+        int updated,
+        int skipped
+) {
+}
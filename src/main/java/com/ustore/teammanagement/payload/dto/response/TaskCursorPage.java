@@ -0,0 +1,10 @@
+package com.ustore.teammanagement.payload.dto.response;
+
+import java.util.List;
+
+public record TaskCursorPage(
+        List<TaskResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
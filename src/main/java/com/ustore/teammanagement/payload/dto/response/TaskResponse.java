@@ -1,5 +1,6 @@
 package com.ustore.teammanagement.payload.dto.response;
 
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.entity.Task;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
@@ -24,21 +25,34 @@ public record TaskResponse (
         MemberInfo createdBy
 ) {
     public TaskResponse (Task task) {
+        this(task, task.getTags());
+    }
+
+    public TaskResponse (Task task, List<String> tags) {
+        this(task, tags, task.getStatus());
+    }
+
+    // status efetivo: pode ser LATE calculado na leitura (LateTaskPolicy).
+    public TaskResponse (Task task, List<String> tags, TaskStatus status) {
         this(
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
-                task.getStatus(),
+                status,
                 task.getPriority(),
                 task.getDueDate(),
                 task.getProject(),
-                task.getTags(),
+                tags,
                 task.getCreatedAt(),
                 task.getUpdatedAt(),
-                new MemberInfo(task.getAssignee().getName()),
-                new MemberInfo(task.getCreatedBy().getName())
+                memberInfo(task.getAssignee()),
+                memberInfo(task.getCreatedBy())
         );
     }
 
+    private static MemberInfo memberInfo(Member member) {
+        return member != null ? new MemberInfo(member.getName()) : null;
+    }
+
 
 }
@@ -0,0 +1,12 @@
+package com.ustore.teammanagement.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Injeta no controller o Member autenticado da requisição, já resolvido pelo SecurityFilterJwt.
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+}
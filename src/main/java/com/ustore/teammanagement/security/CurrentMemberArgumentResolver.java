@@ -0,0 +1,33 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final CurrentMemberContext currentMemberContext;
+
+    public CurrentMemberArgumentResolver(CurrentMemberContext currentMemberContext) {
+        this.currentMemberContext = currentMemberContext;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentMember.class)
+                && Member.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        return currentMemberContext.get();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.exceptions.ResourceNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+// O SecurityContext vive apenas durante a requisição, então o Member lido
+// aqui é o mesmo que o filtro montou a partir do token — sem ida ao banco.
+@Component
+public class CurrentMemberContext {
+
+    public Member get() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth != null && auth.getPrincipal() instanceof Member member) {
+            return member;
+        }
+
+        throw new ResourceNotFoundException("Membro logado não encontrado");
+    }
+}
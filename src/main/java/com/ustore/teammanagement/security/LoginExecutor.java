@@ -0,0 +1,100 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Pool dedicado à verificação de credenciais (BCrypt). Com tamanho e fila
+// limitados, um pico de logins não ocupa todas as threads do Tomcat: quando o
+// pool está saturado a requisição é recusada na hora com 503 + Retry-After.
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public LoginExecutor(@Value("${security.login.pool-size:4}") int poolSize,
+                         @Value("${security.login.queue-capacity:50}") int queueCapacity,
+                         @Value("${security.login.timeout-ms:5000}") long timeoutMillis,
+                         @Value("${security.login.retry-after-seconds:2}") long retryAfterSeconds,
+                         MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.verifyTimer = Timer.builder("auth.login.verify").register(meterRegistry);
+        this.rejected = Counter.builder("auth.login.rejected").register(meterRegistry);
+        Gauge.builder("auth.login.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.login.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> verification) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> verifyTimer.record(verification));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw unavailable();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw unavailable();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        }
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ServiceUnavailableException unavailable() {
+        return new ServiceUnavailableException("Muitas tentativas de login simultâneas. Tente novamente em instantes.",
+                retryAfterSeconds);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "login-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,298 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.repository.MemberRepository;
+import com.ustore.teammanagement.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Limita tentativas de login por email e por IP com token buckets, antes do
+// BCrypt. Os buckets ficam em faixas (stripes) com lock próprio e LRU limitado,
+// então a memória não cresce com a quantidade de chaves distintas.
+// Falhas e bloqueios vão para failed_attempts/account_locked/lock_time em lote,
+// no flush agendado, com no máximo uma escrita por membro a cada ciclo. Só são
+// gravados os emails que o login resolveu para um membro (resolved); os demais
+// ficam bloqueados apenas em memória.
+@Component
+public class LoginThrottle {
+
+    private static final int STRIPES = 64;
+
+    private final MemberRepository memberRepository;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final ConcurrentHashMap<String, LockState> pendingWrites = new ConcurrentHashMap<>();
+    private final Policy emailPolicy;
+    private final Policy ipPolicy;
+    private final int maxFailures;
+    private final long lockMillis;
+    private final int maxPendingWrites;
+    private final Counter rejected;
+
+    public LoginThrottle(MemberRepository memberRepository,
+                         @Value("${security.login.throttle.max-entries:100000}") int maxEntries,
+                         @Value("${security.login.throttle.email-capacity:10}") int emailCapacity,
+                         @Value("${security.login.throttle.email-refill-per-minute:5}") int emailRefillPerMinute,
+                         @Value("${security.login.throttle.ip-capacity:30}") int ipCapacity,
+                         @Value("${security.login.throttle.ip-refill-per-minute:60}") int ipRefillPerMinute,
+                         @Value("${security.login.throttle.max-failures:5}") int maxFailures,
+                         @Value("${security.login.throttle.lock-minutes:15}") long lockMinutes,
+                         MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.emailPolicy = new Policy(emailCapacity, emailRefillPerMinute / 60_000d);
+        this.ipPolicy = new Policy(ipCapacity, ipRefillPerMinute / 60_000d);
+        this.maxFailures = maxFailures;
+        this.lockMillis = lockMinutes * 60_000;
+        this.maxPendingWrites = maxEntries;
+
+        int perStripe = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+
+        this.rejected = Counter.builder("auth.login.throttle.rejected").register(meterRegistry);
+        Gauge.builder("auth.login.throttle.size", this, LoginThrottle::size).register(meterRegistry);
+        Gauge.builder("auth.login.throttle.pending", pendingWrites, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    // Confere os dois buckets antes de consumir: uma tentativa recusada pelo IP
+    // não gasta a cota do email (e vice-versa).
+    public void acquire(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        String emailKey = emailKey(email);
+        String ipKey = clientIp == null ? null : "ip:" + clientIp;
+
+        int emailStripe = stripeIndex(emailKey);
+        int ipStripe = ipKey == null ? emailStripe : stripeIndex(ipKey);
+        // ordem fixa entre as faixas para não haver deadlock
+        Stripe first = stripes[Math.min(emailStripe, ipStripe)];
+        Stripe second = stripes[Math.max(emailStripe, ipStripe)];
+
+        long waitMillis;
+        first.lock.lock();
+        second.lock.lock();
+        try {
+            Bucket emailBucket = bucketFor(stripes[emailStripe], emailKey, emailPolicy, now);
+            waitMillis = waitMillis(emailBucket, emailPolicy, now);
+
+            Bucket ipBucket = null;
+            if (ipKey != null) {
+                ipBucket = bucketFor(stripes[ipStripe], ipKey, ipPolicy, now);
+                waitMillis = Math.max(waitMillis, waitMillis(ipBucket, ipPolicy, now));
+            }
+
+            if (waitMillis == 0) {
+                emailBucket.tokens -= 1;
+                if (ipBucket != null) {
+                    ipBucket.tokens -= 1;
+                }
+            }
+        } finally {
+            second.lock.unlock();
+            first.lock.unlock();
+        }
+
+        if (waitMillis > 0) {
+            rejected.increment();
+            throw new TooManyRequestsException("Muitas tentativas de login. Tente novamente mais tarde.",
+                    Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+
+    // Chamado pelo UserDetailServiceImpl quando o email do login existe: guarda
+    // no bucket o email como está gravado, usado nas escritas.
+    public void resolved(Member member) {
+        long now = System.currentTimeMillis();
+        String key = emailKey(member.getEmail());
+        Stripe stripe = stripeFor(key);
+
+        stripe.lock.lock();
+        try {
+            bucketFor(stripe, key, emailPolicy, now).memberEmail = member.getEmail();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void recordFailure(String email) {
+        long now = System.currentTimeMillis();
+        String key = emailKey(email);
+        Stripe stripe = stripeFor(key);
+
+        int failures;
+        long lockedUntil;
+        String memberEmail;
+        stripe.lock.lock();
+        try {
+            Bucket bucket = bucketFor(stripe, key, emailPolicy, now);
+            bucket.failures++;
+            if (bucket.failures >= maxFailures) {
+                bucket.lockedUntil = now + lockMillis;
+            }
+            failures = bucket.failures;
+            lockedUntil = bucket.lockedUntil;
+            memberEmail = bucket.memberEmail;
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (memberEmail == null) {
+            return;
+        }
+
+        boolean hasRoom = pendingWrites.size() < maxPendingWrites || pendingWrites.containsKey(key);
+        if (lockedUntil > now) {
+            LockState state = new LockState(memberEmail, failures, true, toLocalDateTime(lockedUntil));
+            if (hasRoom) {
+                pendingWrites.put(key, state);
+            } else {
+                // fila cheia: o bloqueio não pode se perder, então é gravado na hora
+                write(state);
+            }
+        } else if (hasRoom) {
+            pendingWrites.put(key, new LockState(memberEmail, failures, false, null));
+        }
+    }
+
+    public void recordSuccess(Member member) {
+        String key = emailKey(member.getEmail());
+        Stripe stripe = stripeFor(key);
+
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket.failures = 0;
+                bucket.lockedUntil = 0;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        boolean persistedFailures = member.getFailedAttempts() != null && member.getFailedAttempts() > 0;
+        if (persistedFailures || Boolean.TRUE.equals(member.getAccountLocked())) {
+            pendingWrites.put(key, new LockState(member.getEmail(), 0, false, null));
+        } else {
+            pendingWrites.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.throttle.flush-interval-ms:5000}")
+    @Transactional
+    public void flush() {
+        for (String key : pendingWrites.keySet()) {
+            LockState state = pendingWrites.remove(key);
+            if (state != null) {
+                write(state);
+            }
+        }
+    }
+
+    private void write(LockState state) {
+        memberRepository.updateLockState(state.email(), state.failedAttempts(), state.locked(), state.lockTime());
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    public int pendingWrites() {
+        return pendingWrites.size();
+    }
+
+    private Bucket bucketFor(Stripe stripe, String key, Policy policy, long now) {
+        return stripe.buckets.computeIfAbsent(key, k -> new Bucket(policy.capacity(), now));
+    }
+
+    // Retorna 0 se há ficha disponível, ou quantos ms faltam para a próxima.
+    // Chamado com o lock da faixa do bucket.
+    private long waitMillis(Bucket bucket, Policy policy, long now) {
+        if (bucket.lockedUntil > now) {
+            return bucket.lockedUntil - now;
+        }
+
+        bucket.refill(policy, now);
+        if (bucket.tokens < 1) {
+            return (long) Math.ceil((1 - bucket.tokens) / policy.refillPerMilli());
+        }
+        return 0;
+    }
+
+    private Stripe stripeFor(String key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    private static int stripeIndex(String key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record Policy(int capacity, double refillPerMilli) {
+    }
+
+    private record LockState(String email, int failedAttempts, boolean locked, LocalDateTime lockTime) {
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        private int failures;
+        private long lockedUntil;
+        private String memberEmail;
+
+        private Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private void refill(Policy policy, long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(policy.capacity(), tokens + (now - refilledAt) * policy.refillPerMilli());
+                refilledAt = now;
+            }
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxEntries) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+}
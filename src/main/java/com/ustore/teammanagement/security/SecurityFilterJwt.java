@@ -1,7 +1,7 @@
 package com.ustore.teammanagement.security;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.ustore.teammanagement.core.entity.Member;
-import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.core.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,7 +11,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,11 +22,13 @@ import java.util.Optional;
 public class SecurityFilterJwt extends OncePerRequestFilter {
 
     private final TokenService tokenService;
-    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVersionRegistry tokenVersions;
 
-    public SecurityFilterJwt(TokenService tokenService, MemberRepository memberRepository) {
+    public SecurityFilterJwt(TokenService tokenService, VerifiedTokenCache tokenCache, TokenVersionRegistry tokenVersions) {
         this.tokenService = tokenService;
-        this.memberRepository = memberRepository;
+        this.tokenCache = tokenCache;
+        this.tokenVersions = tokenVersions;
     }
 
     @Override
@@ -52,7 +53,7 @@ public class SecurityFilterJwt extends OncePerRequestFilter {
             return;
         }
 
-        if (request.getServletPath().equals("/ping")) {
+        if ("/ping".equals(request.getServletPath())) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -63,10 +64,13 @@ public class SecurityFilterJwt extends OncePerRequestFilter {
             String token = tokenJwtRequest.get();
 
             try {
-                String subjectToken = tokenService.getSubject(token);
+                Member member = tokenCache.get(token)
+                        .orElseGet(() -> resolveMember(token));
 
-                Member member = memberRepository.findByEmail(subjectToken)
-                        .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+                if (!tokenVersions.isCurrent(member.getId(), member.getTokenVersion())) {
+                    tokenCache.evict(token);
+                    throw new IllegalStateException("Token revogado");
+                }
 
                 Authentication auth = new UsernamePasswordAuthenticationToken(
                         member,
@@ -86,6 +90,14 @@ public class SecurityFilterJwt extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Member resolveMember(String token) {
+        DecodedJWT decodedJWT = tokenService.verifyAccessToken(token);
+        Member member = tokenService.toPrincipal(decodedJWT);
+
+        tokenCache.put(token, member, decodedJWT.getExpiresAtAsInstant());
+        return member;
+    }
+
     private Optional<String> recoverTokenRequest(HttpServletRequest request) {
         String tokenHeader = request.getHeader("Authorization");
 
@@ -0,0 +1,78 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.repository.MemberRepository;
+import com.ustore.teammanagement.core.service.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Versão atual dos tokens de cada membro. Um token de acesso só é aceito se o
+// claim "ver" for igual à versão conhecida; incrementar a versão revoga todos
+// os tokens emitidos antes. A versão lida do banco é reaproveitada por
+// "ttl-seconds" para que outras instâncias percebam revogações feitas aqui.
+@Component
+public class TokenVersionRegistry {
+
+    private final MemberRepository memberRepository;
+    private final ConcurrentHashMap<UUID, KnownVersion> versions = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public TokenVersionRegistry(MemberRepository memberRepository,
+                                @Value("${security.token-version.ttl-seconds:300}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public boolean isCurrent(UUID memberId, int tokenVersion) {
+        long now = System.currentTimeMillis();
+        KnownVersion known = versions.get(memberId);
+
+        if (known == null || known.isStale(now, ttlMillis)) {
+            Integer stored = memberRepository.findTokenVersionById(memberId).orElse(null);
+            if (stored == null) {
+                versions.remove(memberId);
+                return false;
+            }
+            known = new KnownVersion(stored, now);
+            versions.put(memberId, known);
+        }
+
+        return known.version() == tokenVersion;
+    }
+
+    public void remember(Member member) {
+        record(member.getId(), member.getTokenVersion());
+    }
+
+    // Incrementa a versão no membro (persistida junto com ele) e só publica a
+    // nova versão em memória depois do commit, para não rejeitar tokens se a
+    // transação for desfeita.
+    public void revoke(Member member) {
+        int next = (member.getTokenVersion() == null ? 0 : member.getTokenVersion()) + 1;
+        member.setTokenVersion(next);
+
+        UUID memberId = member.getId();
+        AfterCommit.run(() -> record(memberId, next));
+    }
+
+    // Para quando a versão foi incrementada direto no banco: descarta a versão
+    // em memória depois do commit e a próxima verificação lê a nova.
+    public void forget(UUID memberId) {
+        AfterCommit.run(() -> versions.remove(memberId));
+    }
+
+    private void record(UUID memberId, Integer version) {
+        if (memberId != null && version != null) {
+            versions.put(memberId, new KnownVersion(version, System.currentTimeMillis()));
+        }
+    }
+
+    private record KnownVersion(int version, long loadedAtMillis) {
+        boolean isStale(long now, long ttlMillis) {
+            return now - loadedAtMillis > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Tokens de acesso já verificados, indexados pelo SHA-256 do token.
+// Cada entrada expira junto com o "exp" do próprio token.
+@Component
+public class VerifiedTokenCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxEntries;
+
+    public VerifiedTokenCache(@Value("${security.token-cache.max-entries:10000}") int maxEntries,
+                              MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+
+        FunctionCounter.builder("auth.token.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("auth.token.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("auth.token.cache.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    public Optional<Member> get(String token) {
+        String key = TokenDigest.sha256(token);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(entry.member());
+    }
+
+    public void put(String token, Member member, Instant expiresAt) {
+        if (expiresAt == null || maxEntries <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (expiresAt.toEpochMilli() <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+
+        entries.put(TokenDigest.sha256(token), new Entry(member, expiresAt.toEpochMilli()));
+    }
+
+    public void evict(String token) {
+        entries.remove(TokenDigest.sha256(token));
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Remove primeiro as entradas vencidas; se ainda estiver cheio, libera
+    // espaço descartando entradas arbitrárias até ficar abaixo do limite.
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(Member member, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- Índices dos filtros de GET /tasks (status, prioridade e vencimento), combinados com AND.
+CREATE INDEX IF NOT EXISTS idx_task_status ON task (status);
+CREATE INDEX IF NOT EXISTS idx_task_priority ON task (priority);
+CREATE INDEX IF NOT EXISTS idx_task_due_date ON task (due_date);
@@ -0,0 +1,44 @@
+-- Busca textual de GET /tasks?q=. As tags ficam em task_tags e uma coluna
+-- gerada não pode consultar outra tabela, então search_vector é mantida
+-- por triggers em task e em task_tags.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION task_search_vector(p_task_id UUID, p_title TEXT, p_description TEXT)
+    RETURNS tsvector AS $$
+SELECT setweight(to_tsvector('portuguese', coalesce(p_title, '')), 'A')
+           || setweight(to_tsvector('portuguese', coalesce(
+                (SELECT string_agg(tag, ' ') FROM task_tags WHERE task_id = p_task_id), '')), 'B')
+           || setweight(to_tsvector('portuguese', coalesce(p_description, '')), 'C');
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION task_search_vector_on_task() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := task_search_vector(NEW.id, NEW.title, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION task_search_vector_on_tags() RETURNS trigger AS $$
+DECLARE
+    v_task_id UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.task_id ELSE NEW.task_id END;
+BEGIN
+    UPDATE task
+    SET search_vector = task_search_vector(id, title, description)
+    WHERE id = v_task_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_task_search_vector ON task;
+CREATE TRIGGER trg_task_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON task
+    FOR EACH ROW EXECUTE FUNCTION task_search_vector_on_task();
+
+DROP TRIGGER IF EXISTS trg_task_tags_search_vector ON task_tags;
+CREATE TRIGGER trg_task_tags_search_vector
+    AFTER INSERT OR UPDATE OR DELETE ON task_tags
+    FOR EACH ROW EXECUTE FUNCTION task_search_vector_on_tags();
+
+UPDATE task SET search_vector = task_search_vector(id, title, description);
+
+CREATE INDEX IF NOT EXISTS idx_task_search_vector ON task USING GIN (search_vector);
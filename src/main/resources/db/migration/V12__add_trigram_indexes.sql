@@ -0,0 +1,10 @@
+-- Filtros por trecho (LIKE '%termo%') em member e task. As expressões são as
+-- mesmas geradas pelas Specifications: lower(coluna).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_member_name_trgm ON member USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_member_email_trgm ON member USING GIN (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_member_department_trgm ON member USING GIN (lower(department) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_task_project_trgm ON task USING GIN (lower(project) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_task_title_trgm ON task USING GIN (lower(title) gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- Índices das consultas mais frequentes em task e task_tags.
+-- created_at já é atendido pelo prefixo de idx_task_created_at_id (V9).
+
+-- LateTaskScheduler (status IN ... AND due_date < hoje); substitui o índice só de status.
+CREATE INDEX IF NOT EXISTS idx_task_status_due_date ON task (status, due_date);
+DROP INDEX IF EXISTS idx_task_status;
+
+-- Performance por membro (join por assignee_id + contagem por status).
+CREATE INDEX IF NOT EXISTS idx_task_assignee_status ON task (assignee_id, status);
+
+-- FK sem índice: busca por criador e exclusão de membros.
+CREATE INDEX IF NOT EXISTS idx_task_created_by ON task (created_by_id);
+
+-- Tags por tarefa (página de GET /tasks e trigger da busca textual).
+CREATE INDEX IF NOT EXISTS idx_task_tags_task_id ON task_tags (task_id);
@@ -0,0 +1,29 @@
+-- Feed de atividades: só recebe INSERT. Guarda o título da tarefa e o nome de
+-- quem agiu no momento da ação, então a leitura não faz join em task/member
+-- e o histórico sobrevive à exclusão da tarefa (por isso task_id não tem FK).
+CREATE TABLE activity (
+                          id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                          task_id UUID NOT NULL,
+                          action VARCHAR(20) NOT NULL,
+                          actor_id UUID,
+                          actor_name VARCHAR(255),
+                          task_title VARCHAR(255) NOT NULL,
+                          project VARCHAR(255),
+                          created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+-- Mais recentes primeiro, com cursor (created_at, id); um índice por filtro.
+CREATE INDEX idx_activity_created_at_id ON activity (created_at, id);
+CREATE INDEX idx_activity_project_created_at_id ON activity (project, created_at, id);
+CREATE INDEX idx_activity_actor_created_at_id ON activity (actor_id, created_at, id);
+
+-- Histórico inicial a partir das tarefas existentes.
+INSERT INTO activity (task_id, action, actor_id, actor_name, task_title, project, created_at)
+SELECT t.id, 'CREATED', t.created_by_id, m.name, t.title, t.project, COALESCE(t.created_at, NOW())
+FROM task t
+LEFT JOIN member m ON m.id = t.created_by_id;
+
+INSERT INTO activity (task_id, action, actor_id, actor_name, task_title, project, created_at)
+SELECT t.id, 'COMPLETED', NULL, NULL, t.title, t.project, t.completed_at
+FROM task t
+WHERE t.completed_at IS NOT NULL;
@@ -0,0 +1,39 @@
+-- O trigger de task_tags da V11 era FOR EACH ROW e reescrevia a tarefa uma
+-- vez por tag. Aqui ele passa a ser por statement, com as linhas afetadas
+-- nas transition tables: cada tarefa é atualizada uma vez por statement.
+-- Transition tables exigem um trigger por evento.
+DROP TRIGGER IF EXISTS trg_task_tags_search_vector ON task_tags;
+
+CREATE OR REPLACE FUNCTION task_search_vector_on_tags() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE task t
+        SET search_vector = task_search_vector(t.id, t.title, t.description)
+        WHERE t.id IN (SELECT task_id FROM new_tags);
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE task t
+        SET search_vector = task_search_vector(t.id, t.title, t.description)
+        WHERE t.id IN (SELECT task_id FROM old_tags);
+    ELSE
+        UPDATE task t
+        SET search_vector = task_search_vector(t.id, t.title, t.description)
+        WHERE t.id IN (SELECT task_id FROM new_tags UNION SELECT task_id FROM old_tags);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_task_tags_search_vector_insert
+    AFTER INSERT ON task_tags
+    REFERENCING NEW TABLE AS new_tags
+    FOR EACH STATEMENT EXECUTE FUNCTION task_search_vector_on_tags();
+
+CREATE TRIGGER trg_task_tags_search_vector_delete
+    AFTER DELETE ON task_tags
+    REFERENCING OLD TABLE AS old_tags
+    FOR EACH STATEMENT EXECUTE FUNCTION task_search_vector_on_tags();
+
+CREATE TRIGGER trg_task_tags_search_vector_update
+    AFTER UPDATE ON task_tags
+    REFERENCING OLD TABLE AS old_tags NEW TABLE AS new_tags
+    FOR EACH STATEMENT EXECUTE FUNCTION task_search_vector_on_tags();
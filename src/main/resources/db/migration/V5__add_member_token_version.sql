@@ -0,0 +1 @@
+ALTER TABLE member ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+CREATE TABLE refresh_token_family (
+                                      id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+                                      member_id UUID NOT NULL,
+                                      current_token_id UUID NOT NULL,
+                                      revoked BOOLEAN NOT NULL DEFAULT FALSE,
+                                      expires_at TIMESTAMP NOT NULL,
+                                      created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                      CONSTRAINT fk_refresh_family_member FOREIGN KEY (member_id) REFERENCES member(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_token_family_expires_at ON refresh_token_family (expires_at);
+CREATE INDEX idx_refresh_token_family_member_id ON refresh_token_family (member_id);
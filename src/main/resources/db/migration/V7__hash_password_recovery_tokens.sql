@@ -0,0 +1,24 @@
+-- Os tokens passam a ser guardados como SHA-256; os valores em texto puro
+-- existentes não podem ser convertidos e são descartados.
+DELETE FROM password_recovery_token;
+
+-- Um membro pode ter mais de um pedido de recuperação (ManyToOne).
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'password_recovery_token'::regclass
+          AND c.contype = 'u'
+          AND a.attname = 'member_id'
+          AND array_length(c.conkey, 1) = 1
+    LOOP
+        EXECUTE format('ALTER TABLE password_recovery_token DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_password_recovery_token_member_id ON password_recovery_token (member_id);
+CREATE INDEX IF NOT EXISTS idx_password_recovery_token_expiration ON password_recovery_token (expiration);
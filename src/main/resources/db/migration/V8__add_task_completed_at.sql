@@ -0,0 +1,8 @@
+ALTER TABLE task ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP WITH TIME ZONE;
+
+-- Tarefas já concluídas não têm o momento exato: updated_at é a melhor aproximação.
+UPDATE task SET completed_at = updated_at WHERE status = 'COMPLETED' AND completed_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_task_assignee_completed_at
+    ON task (assignee_id, completed_at)
+    WHERE completed_at IS NOT NULL;
@@ -0,0 +1,2 @@
+-- Índice do modo cursor de GET /tasks: ordenação e busca por (created_at, id).
+CREATE INDEX IF NOT EXISTS idx_task_created_at_id ON task (created_at, id);
@@ -3,9 +3,11 @@ package com.ustore.teammanagement.core.controller;
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.service.AuthenticationServiceImpl;
 import com.ustore.teammanagement.core.service.PasswordRecoveryService;
+import com.ustore.teammanagement.core.service.RefreshTokenService;
 import com.ustore.teammanagement.core.service.TokenService;
 import com.ustore.teammanagement.payload.dto.request.ForgotPasswordRequest;
 import com.ustore.teammanagement.payload.dto.request.LoginRequest;
+import com.ustore.teammanagement.payload.dto.request.RefreshToken;
 import com.ustore.teammanagement.payload.dto.request.ResetPasswordRequest;
 import com.ustore.teammanagement.payload.dto.response.LoginResponse;
 import com.ustore.teammanagement.payload.dto.response.RecoveryTokenResponse;
@@ -15,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.util.UUID;
 
@@ -36,6 +39,9 @@ class AuthControllerTest {
     @Mock
     private PasswordRecoveryService recoveryService;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Test
     void mustLogInSuccessfully() {
         LoginRequest request = new LoginRequest("user@test.com", "123");
@@ -44,11 +50,14 @@ class AuthControllerTest {
         member.setId(UUID.randomUUID());
         member.setEmail("user@test.com");
 
-        when(authenticationService.authenticate(request)).thenReturn(member);
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("10.0.0.1");
+
+        when(authenticationService.authenticate(request, "10.0.0.1")).thenReturn(member);
         when(tokenService.generateToken(member)).thenReturn("token-acesso");
-        when(tokenService.generateRefreshToken(member)).thenReturn("token-refresh");
+        when(refreshTokenService.issue(member)).thenReturn("token-refresh");
 
-        ResponseEntity<LoginResponse> response = authController.login(request);
+        ResponseEntity<LoginResponse> response = authController.login(request, httpRequest);
 
         assertEquals(200, response.getStatusCode().value());
         assertNotNull(response.getBody());
@@ -56,9 +65,22 @@ class AuthControllerTest {
         assertEquals("token-refresh", response.getBody().refreshToken());
         assertEquals("Bearer", response.getBody().tokenType());
 
-        verify(authenticationService).authenticate(request);
+        verify(authenticationService).authenticate(request, "10.0.0.1");
         verify(tokenService).generateToken(member);
-        verify(tokenService).generateRefreshToken(member);
+        verify(refreshTokenService).issue(member);
+    }
+
+    @Test
+    void mustRefreshTokens() {
+        LoginResponse expected = new LoginResponse("novo-acesso", "novo-refresh", "Bearer", 3600);
+
+        when(refreshTokenService.refresh("token-refresh")).thenReturn(expected);
+
+        ResponseEntity<LoginResponse> response = authController.refreshToken(new RefreshToken("token-refresh"));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(expected, response.getBody());
+        verify(refreshTokenService).refresh("token-refresh");
     }
 
     @Test
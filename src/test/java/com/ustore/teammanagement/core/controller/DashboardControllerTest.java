@@ -1,6 +1,7 @@
 package com.ustore.teammanagement.core.controller;
 
 import com.ustore.teammanagement.core.service.DashboardService;
+import com.ustore.teammanagement.payload.dto.response.ActivityCursorPage;
 import com.ustore.teammanagement.payload.dto.response.ActivityResponse;
 import com.ustore.teammanagement.payload.dto.response.DashboardResponse;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
@@ -55,44 +57,49 @@ class DashboardControllerTest {
     @Test
     void shouldReturnRecentActivitiesSuccessfully() {
         OffsetDateTime now = OffsetDateTime.now();
+        UUID actorId = UUID.randomUUID();
 
         ActivityResponse activity1 = new ActivityResponse(
                 "John Doe",
-                "created",
+                "criou a tarefa",
                 "Implementar módulo de pagamento",
-                now.minusHours(1)
+                now.minusHours(1),
+                UUID.randomUUID(),
+                "Financeiro"
         );
 
         ActivityResponse activity2 = new ActivityResponse(
-                "Maria Silva",
-                "updated",
+                "John Doe",
+                "atualizou a tarefa",
                 "Corrigir bug no dashboard",
-                now.minusMinutes(30)
+                now.minusMinutes(30),
+                UUID.randomUUID(),
+                "Financeiro"
         );
 
-        List<ActivityResponse> activities = List.of(activity1, activity2);
+        ActivityCursorPage page = new ActivityCursorPage(List.of(activity1, activity2), "proximo", true);
 
-        when(dashboardService.getRecentActivities()).thenReturn(activities);
+        when(dashboardService.getRecentActivities("Financeiro", actorId, null, 2)).thenReturn(page);
 
-        ResponseEntity<List<ActivityResponse>> result = dashboardController.getRecentActivities();
+        ResponseEntity<ActivityCursorPage> result = dashboardController.getRecentActivities("Financeiro", actorId, null, 2);
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
-        assertEquals(2, result.getBody().size());
+        assertEquals(2, result.getBody().content().size());
+        assertEquals("proximo", result.getBody().nextCursor());
 
-        ActivityResponse a1 = result.getBody().get(0);
-        ActivityResponse a2 = result.getBody().get(1);
+        ActivityResponse a1 = result.getBody().content().get(0);
+        ActivityResponse a2 = result.getBody().content().get(1);
 
         assertEquals("John Doe", a1.authorName());
-        assertEquals("created", a1.action());
+        assertEquals("criou a tarefa", a1.action());
         assertEquals("Implementar módulo de pagamento", a1.taskTitle());
         assertEquals(now.minusHours(1), a1.timestamp());
 
-        assertEquals("Maria Silva", a2.authorName());
-        assertEquals("updated", a2.action());
+        assertEquals("atualizou a tarefa", a2.action());
         assertEquals("Corrigir bug no dashboard", a2.taskTitle());
         assertEquals(now.minusMinutes(30), a2.timestamp());
 
-        verify(dashboardService).getRecentActivities();
+        verify(dashboardService).getRecentActivities("Financeiro", actorId, null, 2);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.ustore.teammanagement.core.controller;
 
+import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Role;
 import com.ustore.teammanagement.core.service.MemberService;
@@ -36,6 +37,8 @@ class MemberControllerTest {
     @Mock
     private MemberService memberService;
 
+    private final Member memberLogado = new Member();
+
     @Test
     void shouldSaveMemberSuccessfully() {
         MemberRequest request = new MemberRequest(
@@ -167,9 +170,9 @@ class MemberControllerTest {
                 null
         );
 
-        when(memberService.update(id, dto)).thenReturn(response);
+        when(memberService.update(id, dto, memberLogado)).thenReturn(response);
 
-        ResponseEntity<MemberResponse> result = memberController.updateMember(id, dto);
+        ResponseEntity<MemberResponse> result = memberController.updateMember(id, dto, memberLogado);
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -178,7 +181,7 @@ class MemberControllerTest {
         assertEquals(Role.MANAGER, result.getBody().role());
         assertEquals("Financeiro", result.getBody().department());
 
-        verify(memberService).update(id, dto);
+        verify(memberService).update(id, dto, memberLogado);
     }
 
     @Test
@@ -195,31 +198,31 @@ class MemberControllerTest {
                 null
         );
 
-        when(memberService.update(id, dto))
+        when(memberService.update(id, dto, memberLogado))
                 .thenThrow(new AccessDeniedException(
                         "Acesso negado: você não tem permissão para atualizar este membro."
                 ));
 
         AccessDeniedException ex = assertThrows(
                 AccessDeniedException.class,
-                () -> memberController.updateMember(id, dto)
+                () -> memberController.updateMember(id, dto, memberLogado)
         );
 
         assertEquals("Acesso negado: você não tem permissão para atualizar este membro.",
                 ex.getMessage());
 
-        verify(memberService).update(id, dto);
+        verify(memberService).update(id, dto, memberLogado);
     }
 
     @Test
     void shouldInactivateMember_whenUserIsAdminOrManager() throws Exception {
         UUID memberId = UUID.randomUUID();
 
-        doNothing().when(memberService).inactivateMember(memberId);
+        doNothing().when(memberService).inactivateMember(memberId, memberLogado);
 
-        assertDoesNotThrow(() -> memberController.inactivate(memberId));
+        assertDoesNotThrow(() -> memberController.inactivate(memberId, memberLogado));
 
-        verify(memberService, times(1)).inactivateMember(memberId);
+        verify(memberService, times(1)).inactivateMember(memberId, memberLogado);
     }
 
     @Test
@@ -227,15 +230,15 @@ class MemberControllerTest {
         UUID memberId = UUID.randomUUID();
 
         doThrow(new AccessDeniedException("Acesso negado: você não tem permissão para inativar este membro."))
-                .when(memberService).inactivateMember(memberId);
+                .when(memberService).inactivateMember(memberId, memberLogado);
 
         Exception exception = assertThrows(
                 AccessDeniedException.class,
-                () -> memberController.inactivate(memberId)
+                () -> memberController.inactivate(memberId, memberLogado)
         );
 
         assertEquals("Acesso negado: você não tem permissão para inativar este membro.", exception.getMessage());
-        verify(memberService, times(1)).inactivateMember(memberId);
+        verify(memberService, times(1)).inactivateMember(memberId, memberLogado);
     }
 }
 
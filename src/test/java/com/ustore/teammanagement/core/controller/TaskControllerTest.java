@@ -1,10 +1,19 @@
 package com.ustore.teammanagement.core.controller;
 
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.enums.FilterMatch;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.service.TaskBatchService;
 import com.ustore.teammanagement.core.service.TaskService;
+import com.ustore.teammanagement.payload.dto.request.TaskBatchRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskBulkUpdateRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskRequest;
 import com.ustore.teammanagement.payload.dto.request.TaskUpdateRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchItem;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskBulkUpdateResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskCursorPage;
 import com.ustore.teammanagement.payload.dto.response.TaskResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -35,6 +45,11 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskBatchService taskBatchService;
+
+    private final Member memberLogado = new Member();
+
     @Test
     void shouldCreateTask_whenUserIsAdminOrManager() throws Exception {
         TaskRequest request = new TaskRequest(
@@ -63,13 +78,13 @@ class TaskControllerTest {
                 null
         );
 
-        when(taskService.createTask(request)).thenReturn(response);
+        when(taskService.createTask(request, memberLogado)).thenReturn(response);
 
-        ResponseEntity<TaskResponse> result = taskController.createTask(request);
+        ResponseEntity<TaskResponse> result = taskController.createTask(request, memberLogado);
 
         assertEquals(HttpStatus.CREATED, result.getStatusCode());
         assertEquals(response, result.getBody());
-        verify(taskService, times(1)).createTask(request);
+        verify(taskService, times(1)).createTask(request, memberLogado);
     }
 
     @Test
@@ -86,16 +101,16 @@ class TaskControllerTest {
         );
 
         doThrow(new AccessDeniedException("Acesso negado: você não tem permissão para criar tasks."))
-                .when(taskService).createTask(request);
+                .when(taskService).createTask(request, memberLogado);
 
         Exception exception = assertThrows(
                 AccessDeniedException.class,
-                () -> taskController.createTask(request)
+                () -> taskController.createTask(request, memberLogado)
         );
 
         assertEquals("Acesso negado: você não tem permissão para criar tasks.", exception.getMessage());
 
-        verify(taskService, times(1)).createTask(request);
+        verify(taskService, times(1)).createTask(request, memberLogado);
     }
 
     @Test
@@ -133,14 +148,14 @@ class TaskControllerTest {
                 title, project, status, priority,
                 assigneeName, createdByName,
                 dueDateFrom, dueDateTo,
-                onlyOverdue, pageable
+                onlyOverdue, null, FilterMatch.ALL, pageable
         )).thenReturn(page);
 
         ResponseEntity<Page<TaskResponse>> result = taskController.filterTasks(
                 title, project, status, priority,
                 assigneeName, createdByName,
                 dueDateFrom, dueDateTo,
-                onlyOverdue, pageable
+                onlyOverdue, null, FilterMatch.ALL, pageable
         );
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -150,7 +165,7 @@ class TaskControllerTest {
                 title, project, status, priority,
                 assigneeName, createdByName,
                 dueDateFrom, dueDateTo,
-                onlyOverdue, pageable
+                onlyOverdue, null, FilterMatch.ALL, pageable
         );
     }
 
@@ -163,14 +178,14 @@ class TaskControllerTest {
                 null, null, null, null,
                 null, null,
                 null, null,
-                null, pageable
+                null, null, FilterMatch.ALL, pageable
         )).thenReturn(emptyPage);
 
         ResponseEntity<Page<TaskResponse>> result = taskController.filterTasks(
                 null, null, null, null,
                 null, null,
                 null, null,
-                null, pageable
+                null, null, FilterMatch.ALL, pageable
         );
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -180,7 +195,7 @@ class TaskControllerTest {
                 null, null, null, null,
                 null, null,
                 null, null,
-                null, pageable
+                null, null, FilterMatch.ALL, pageable
         );
     }
 
@@ -214,17 +229,17 @@ class TaskControllerTest {
                 null
         );
 
-        when(taskService.updateTask(taskId, request))
+        when(taskService.updateTask(taskId, request, memberLogado))
                 .thenReturn(expectedResponse);
 
         ResponseEntity<TaskResponse> result =
-                taskController.updateTask(taskId, request);
+                taskController.updateTask(taskId, request, memberLogado);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(expectedResponse, result.getBody());
 
         verify(taskService, times(1))
-                .updateTask(taskId, request);
+                .updateTask(taskId, request, memberLogado);
     }
 
     @Test
@@ -257,29 +272,29 @@ class TaskControllerTest {
                 null
         );
 
-        when(taskService.updateTask(id, request))
+        when(taskService.updateTask(id, request, memberLogado))
                 .thenReturn(response);
 
-        ResponseEntity<TaskResponse> result = taskController.updateTask(id, request);
+        ResponseEntity<TaskResponse> result = taskController.updateTask(id, request, memberLogado);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
 
-        verify(taskService).updateTask(id, request);
+        verify(taskService).updateTask(id, request, memberLogado);
     }
 
     @Test
     void shouldDeleteTaskSuccessfully() throws Exception {
         UUID id = UUID.randomUUID();
 
-        doNothing().when(taskService).deleteTask(id);
+        doNothing().when(taskService).deleteTask(id, memberLogado);
 
-        ResponseEntity<Void> response = taskController.deleteTask(id);
+        ResponseEntity<Void> response = taskController.deleteTask(id, memberLogado);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         assertNull(response.getBody());
 
-        verify(taskService, times(1)).deleteTask(id);
+        verify(taskService, times(1)).deleteTask(id, memberLogado);
     }
 
     @Test
@@ -287,14 +302,70 @@ class TaskControllerTest {
         UUID id = UUID.randomUUID();
 
         doThrow(new AccessDeniedException("Acesso negado"))
-                .when(taskService).deleteTask(id);
+                .when(taskService).deleteTask(id, memberLogado);
 
         assertThrows(
                 AccessDeniedException.class,
-                () -> taskController.deleteTask(id)
+                () -> taskController.deleteTask(id, memberLogado)
         );
 
-        verify(taskService, times(1)).deleteTask(id);
+        verify(taskService, times(1)).deleteTask(id, memberLogado);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void shouldScrollTasksWithCursor() {
+        TaskCursorPage page = new TaskCursorPage(List.of(), "next", true);
+
+        when(taskService.scroll(null, null, TaskStatus.TO_DO, null, null, null, null, null, null, "relatório", FilterMatch.ALL,
+                "cursor", 20, Sort.Direction.DESC)).thenReturn(page);
+
+        ResponseEntity<TaskCursorPage> result = taskController.scrollTasks(null, null, TaskStatus.TO_DO, null,
+                null, null, null, null, null, "relatório", FilterMatch.ALL, "cursor", 20, Sort.Direction.DESC);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(page, result.getBody());
+    }
+
+    @Test
+    void shouldReturnCreatedWhenWholeBatchSucceeds() throws Exception {
+        List<TaskRequest> tasks = List.of(new TaskRequest("Título", "Descrição", TaskStatus.TO_DO, Priority.MEDIUM,
+                LocalDate.now(), "Projeto X", List.of(), UUID.randomUUID()));
+        TaskBatchResponse response = new TaskBatchResponse(1, 0, List.of(TaskBatchItem.created(0, UUID.randomUUID())));
+
+        when(taskBatchService.createTasks(tasks, memberLogado)).thenReturn(response);
+
+        ResponseEntity<TaskBatchResponse> result = taskController.createTasks(new TaskBatchRequest(tasks), memberLogado);
+
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(response, result.getBody());
+    }
+
+    @Test
+    void shouldReturnMultiStatusWhenSomeItemsFail() throws Exception {
+        List<TaskRequest> tasks = List.of(new TaskRequest("Título", "Descrição", TaskStatus.TO_DO, Priority.MEDIUM,
+                LocalDate.now(), "Projeto X", List.of(), UUID.randomUUID()));
+        TaskBatchResponse response = new TaskBatchResponse(0, 1,
+                List.of(TaskBatchItem.failed(0, List.of("Responsável não encontrado"))));
+
+        when(taskBatchService.createTasks(tasks, memberLogado)).thenReturn(response);
+
+        ResponseEntity<TaskBatchResponse> result = taskController.createTasks(new TaskBatchRequest(tasks), memberLogado);
+
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+    }
+
+    @Test
+    void shouldUpdateTasksInBulk() throws Exception {
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest(List.of(UUID.randomUUID()), null,
+                TaskStatus.REVISION, null, null);
+        TaskBulkUpdateResponse response = new TaskBulkUpdateResponse(1, 1, 0);
+
+        when(taskBatchService.updateTasks(request, memberLogado)).thenReturn(response);
+
+        ResponseEntity<TaskBulkUpdateResponse> result = taskController.updateTasks(request, memberLogado);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(response, result.getBody());
+    }
+}
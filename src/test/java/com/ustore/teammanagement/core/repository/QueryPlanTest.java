@@ -0,0 +1,393 @@
+package com.ustore.teammanagement.core.repository;
+
+import com.ustore.teammanagement.core.Specifications.MemberSpecification;
+import com.ustore.teammanagement.core.Specifications.TaskSpecification;
+import com.ustore.teammanagement.core.enums.FilterMatch;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.service.DashboardService;
+import com.ustore.teammanagement.core.service.DueDateScheduler;
+import com.ustore.teammanagement.core.service.LateTaskPolicy;
+import com.ustore.teammanagement.core.service.SchedulerLock;
+import com.ustore.teammanagement.core.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+// Confere o plano das consultas mais usadas: executa os métodos reais de
+// repositório/serviço num Postgres embutido com as migrations e uma massa de
+// dados com ANALYZE, captura o SQL gerado com os valores ligados e roda
+// EXPLAIN com as configurações padrão do planner.
+// Ficam de fora as agregações que leem a tabela inteira (countOverview,
+// countDashboard, aggregateByProject...): para elas Seq Scan é o plano certo.
+// findPerformance entra porque pagina os membros e junta as tarefas de cada
+// um por idx_task_assignee_status.
+@DataJpaTest(properties = {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=none", "tasks.due.enabled=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskService.class, DashboardService.class, LateTaskPolicy.class, DueDateScheduler.class, SchedulerLock.class,
+        SimpleMeterRegistry.class, QueryPlanTest.CaptureConfig.class})
+class QueryPlanTest {
+
+    private static final UUID MEMBER_1 = seededId(0, 1);
+    private static final UUID TASK_1 = seededId(1, 1);
+    private static final UUID TASK_2 = seededId(1, 2);
+
+    private static EmbeddedPostgres postgres;
+    private static final List<CapturedStatement> captured = Collections.synchronizedList(new ArrayList<>());
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+
+    @Autowired
+    private PasswordRecovery passwordRecovery;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @BeforeAll
+    static void startPostgres() throws IOException, SQLException {
+        // initdb se recusa a rodar como root (ex.: alguns containers de build).
+        assumeFalse("root".equals(System.getProperty("user.name")), "Postgres não roda como root");
+
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        seed();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @BeforeEach
+    void clearCaptured() {
+        captured.clear();
+    }
+
+    static Stream<Arguments> hotQueries() {
+        LocalDate today = LocalDate.now();
+        return Stream.of(
+                hotQuery("LateTaskScheduler.markLate", "task_pkey",
+                        test -> test.taskRepository.markLate(today, 1000)),
+                hotQuery("DueDateScheduler.findDueBetween", "idx_task_status_due_date",
+                        test -> test.taskRepository.findDueBetween(TaskStatus.OPEN, today.minusDays(1), today.plusDays(2))),
+                hotQuery("findTagsByTaskIds", "idx_task_tags_task_id",
+                        test -> test.taskRepository.findTagsByTaskIds(List.of(TASK_1, TASK_2))),
+                hotQuery("findTaskTrend", "idx_task_created_at_id",
+                        test -> test.taskRepository.findTaskTrend(30)),
+                hotQuery("tarefas por status", "idx_task_status_due_date",
+                        test -> test.taskService.filter(null, null, TaskStatus.TO_DO, null, null, null, null, null, null,
+                                null, FilterMatch.ALL, PageRequest.of(0, 10))),
+                hotQuery("tarefas por prioridade", "idx_task_priority",
+                        test -> test.taskService.filter(null, null, null, Priority.URGENT, null, null, null, null, null,
+                                null, FilterMatch.ALL, PageRequest.of(0, 10))),
+                hotQuery("tarefas por vencimento", "idx_task_due_date",
+                        test -> test.taskService.filter(null, null, null, null, null, null, today.plusDays(5), today.plusDays(5),
+                                null, null, FilterMatch.ALL, PageRequest.of(0, 10))),
+                hotQuery("tarefas com filtros combinados", "idx_task_status_due_date",
+                        test -> test.taskService.filter(null, null, TaskStatus.TO_DO, Priority.URGENT, null, null,
+                                today, today.plusDays(5), null, null, FilterMatch.ALL, PageRequest.of(0, 10))),
+                // GET /tasks?status=LATE&sort=dueDate com tasks.late.derived=true.
+                hotQuery("tarefas atrasadas (LATE calculado)", "idx_task_status_due_date",
+                        test -> test.taskRepository.findAll(TaskSpecification.withFilters(null, null, TaskStatus.LATE, null,
+                                null, null, null, null, null, FilterMatch.ALL, true),
+                                PageRequest.of(0, 10, Sort.by("dueDate")))),
+                hotQuery("tarefas com q (busca textual)", "idx_task_search_vector",
+                        test -> test.taskService.filter(null, null, null, null, null, null, null, null, null,
+                                "orçamento", FilterMatch.ALL, PageRequest.of(0, 10))),
+                hotQuery("tarefas por título", "idx_task_title_trgm",
+                        test -> test.taskService.filter("tarefa 4242", null, null, null, null, null, null, null, null,
+                                null, FilterMatch.ALL, PageRequest.of(0, 10))),
+                hotQuery("atividades recentes", "idx_activity_created_at_id",
+                        test -> test.dashboardService.getRecentActivities(null, null, null, 5)),
+                hotQuery("atividades recentes (cursor)", "idx_activity_created_at_id",
+                        test -> test.dashboardService.getRecentActivities(null, null,
+                                test.withoutCapture(() -> test.dashboardService.getRecentActivities(null, null, null, 5).nextCursor()), 5)),
+                hotQuery("atividades recentes por projeto", "idx_activity_project_created_at_id",
+                        test -> test.dashboardService.getRecentActivities("Projeto 7", null, null, 5)),
+                hotQuery("atividades recentes por membro", "idx_activity_actor_created_at_id",
+                        test -> test.dashboardService.getRecentActivities(null, MEMBER_1, null, 5)),
+                hotQuery("tarefas por responsável", "idx_task_assignee_status",
+                        test -> test.taskRepository.findAll(TaskSpecification.withAssigneeId(MEMBER_1), PageRequest.of(0, 10))),
+                hotQuery("performance por membro", "idx_task_assignee_status",
+                        test -> test.memberRepository.findPerformance(OffsetDateTime.now().minusWeeks(1),
+                                OffsetDateTime.now().minusWeeks(2), PageRequest.of(0, 10))),
+                hotQuery("membros por nome", "idx_member_name_trgm",
+                        test -> test.memberRepository.findAll(MemberSpecification.withSearch("membro 12345", null),
+                                PageRequest.of(0, 10))),
+                hotQuery("membros por email", "idx_member_email_trgm",
+                        test -> test.memberRepository.findAll(MemberSpecification.withSearch(null, "membro12345@"),
+                                PageRequest.of(0, 10))),
+                hotQuery("RefreshTokenFamily.deleteExpired", "idx_refresh_token_family_expires_at",
+                        test -> test.refreshTokenFamilyRepository.deleteExpired(LocalDateTime.now())),
+                hotQuery("PasswordRecovery.consume", "password_recovery_token_token_key",
+                        test -> test.passwordRecovery.consume("digest-42", LocalDateTime.now()))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("Consultas frequentes devem usar índice com o planner padrão")
+    void hotQueriesShouldUseIndexes(String name, String expectedIndex, HotQuery hotQuery) throws Exception {
+        hotQuery.run(this);
+        assertFalse(captured.isEmpty(), name + " não executou SQL");
+
+        String table = tableOf(expectedIndex);
+        StringBuilder plans = new StringBuilder();
+        for (CapturedStatement statement : List.copyOf(captured)) {
+            plans.append(statement.sql()).append('\n').append(explain(statement)).append('\n');
+        }
+
+        assertFalse(plans.toString().contains("Seq Scan on " + table + " "), name + " fez Seq Scan em " + table + ":\n" + plans);
+        assertTrue(plans.toString().contains(expectedIndex), name + " não usou " + expectedIndex + ":\n" + plans);
+    }
+
+    private <T> T withoutCapture(ThrowingSupplier<T> action) throws Exception {
+        T result = action.get();
+        captured.clear();
+        return result;
+    }
+
+    // Mesmo SQL e mesmos valores ligados, numa conexão à parte.
+    private static String explain(CapturedStatement statement) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.method().invoke(explain, binding.args());
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static String tableOf(String index) throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT tablename FROM pg_indexes WHERE indexname = ?")) {
+            statement.setString(1, index);
+            try (ResultSet rows = statement.executeQuery()) {
+                assertTrue(rows.next(), "Índice inexistente: " + index);
+                return rows.getString(1);
+            }
+        }
+    }
+
+    // 20 mil membros (as tarefas ficam com os 2 mil primeiros), 50 mil tarefas
+    // (6% em aberto, criadas ao longo de 2 anos, 1% URGENT), 100 mil atividades
+    // e tokens quase todos válidos.
+    private static void seed() throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO member (id, name, email, password, role, department, status)
+                    SELECT ('00000000-0000-0000-0000-' || lpad(to_hex(g), 12, '0'))::uuid,
+                           'Membro ' || g, 'membro' || g || '@empresa.com', 'hash', 'MEMBER',
+                           'Departamento ' || (g % 20), 'ACTIVE'
+                    FROM generate_series(1, 20000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO task (id, title, description, status, priority, due_date, project,
+                                      created_at, updated_at, completed_at, assignee_id, created_by_id)
+                    SELECT ('00000000-0000-0000-0001-' || lpad(to_hex(g), 12, '0'))::uuid,
+                           'Tarefa ' || g || CASE WHEN g % 1000 = 0 THEN ' orçamento' ELSE '' END,
+                           'Descrição da tarefa ' || g,
+                           s.status,
+                           CASE WHEN g % 100 = 7 THEN 'URGENT' ELSE (ARRAY['LOW', 'MEDIUM', 'HIGH'])[g % 3 + 1] END,
+                           CASE WHEN s.status = 'COMPLETED' THEN CURRENT_DATE - (g % 700)
+                                ELSE CURRENT_DATE + (g % 30) - 2 END,
+                           'Projeto ' || (g % 40),
+                           NOW() - (g % 730) * INTERVAL '1 day',
+                           NOW() - (g % 730) * INTERVAL '1 day',
+                           CASE WHEN s.status = 'COMPLETED' THEN NOW() - (g % 730) * INTERVAL '1 day' + INTERVAL '1 day' END,
+                           ('00000000-0000-0000-0000-' || lpad(to_hex(g % 2000 + 1), 12, '0'))::uuid,
+                           ('00000000-0000-0000-0000-' || lpad(to_hex((g * 7) % 2000 + 1), 12, '0'))::uuid
+                    FROM generate_series(1, 50000) g,
+                         LATERAL (SELECT CASE g % 50 WHEN 0 THEN 'TO_DO' WHEN 1 THEN 'IN_PROGRESSO'
+                                              WHEN 2 THEN 'REVISION' ELSE 'COMPLETED' END AS status) s
+                    """);
+            statement.execute("""
+                    INSERT INTO task_tags (task_id, tag)
+                    SELECT id, (ARRAY['backend', 'frontend', 'infra', 'dados'])[(hashtext(id::text) & 3) + 1]
+                    FROM task
+                    """);
+            statement.execute("""
+                    INSERT INTO activity (task_id, action, actor_id, actor_name, task_title, project, created_at)
+                    SELECT ('00000000-0000-0000-0001-' || lpad(to_hex(g % 50000 + 1), 12, '0'))::uuid,
+                           'UPDATED',
+                           ('00000000-0000-0000-0000-' || lpad(to_hex(g % 2000 + 1), 12, '0'))::uuid,
+                           'Membro ' || (g % 2000 + 1), 'Tarefa ' || g, 'Projeto ' || (g % 40),
+                           NOW() - g * INTERVAL '1 minute'
+                    FROM generate_series(1, 100000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO refresh_token_family (member_id, current_token_id, expires_at)
+                    SELECT ('00000000-0000-0000-0000-' || lpad(to_hex(g % 2000 + 1), 12, '0'))::uuid,
+                           gen_random_uuid(), NOW() + ((g % 100) - 1) * INTERVAL '1 day'
+                    FROM generate_series(1, 20000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO password_recovery_token (token, member_id, expiration, used)
+                    SELECT 'digest-' || g, ('00000000-0000-0000-0000-' || lpad(to_hex(g % 2000 + 1), 12, '0'))::uuid,
+                           NOW() + INTERVAL '30 minutes', g % 2 = 0
+                    FROM generate_series(1, 5000) g
+                    """);
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    private static UUID seededId(int group, int n) {
+        return UUID.fromString(String.format("00000000-0000-0000-%04x-%012x", group, n));
+    }
+
+    private static Arguments hotQuery(String name, String expectedIndex, HotQuery hotQuery) {
+        return Arguments.of(name, expectedIndex, hotQuery);
+    }
+
+    @FunctionalInterface
+    interface HotQuery {
+        void run(QueryPlanTest test) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface ThrowingSupplier<T> {
+        T get() throws Exception;
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+
+    record CapturedStatement(String sql, List<Binding> bindings) {
+    }
+
+    // Embrulha o DataSource do contexto para guardar cada statement executado
+    // com os setters de parâmetro chamados pelo Hibernate.
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return capture(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection capture(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return capture(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capture(PreparedStatement statement, String sql) {
+            Map<Integer, Binding> bindings = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (method.getDeclaringClass() == PreparedStatement.class && name.startsWith("set")) {
+                            bindings.put((Integer) args[0], new Binding(method, args));
+                        } else if (name.equals("clearParameters")) {
+                            bindings.clear();
+                        } else if ((name.startsWith("execute") && (args == null || args.length == 0)) || name.equals("addBatch")) {
+                            captured.add(new CapturedStatement(sql, List.copyOf(bindings.values())));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
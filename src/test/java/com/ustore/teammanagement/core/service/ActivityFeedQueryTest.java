@@ -0,0 +1,155 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.exceptions.InvalidCursorException;
+import com.ustore.teammanagement.payload.dto.request.TaskRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskUpdateRequest;
+import com.ustore.teammanagement.payload.dto.response.ActivityCursorPage;
+import com.ustore.teammanagement.payload.dto.response.ActivityResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskService.class, DashboardService.class, LateTaskPolicy.class, DueDateScheduler.class, SchedulerLock.class,
+        SimpleMeterRegistry.class})
+class ActivityFeedQueryTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member admin;
+    private Member ana;
+    private TaskResponse api;
+
+    // 3 criações (admin), uma edição de título (admin) e uma conclusão (ana)
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        admin = persistMember("Admin", Role.ADMIN);
+        ana = persistMember("Ana", Role.MEMBER);
+
+        api = taskService.createTask(request("Criar API", "WebApp"), admin);
+        TaskResponse login = taskService.createTask(request("Tela de login", "WebApp"), admin);
+        taskService.createTask(request("Push", "Mobile"), admin);
+
+        taskService.updateTask(api.id(), update("Criar API v2", null), admin);
+        taskService.updateTask(login.id(), update(null, TaskStatus.COMPLETED), ana);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Feed deve paginar por cursor do mais novo para o mais antigo com uma consulta por página")
+    void shouldPageThroughFeedWithCursor() {
+        List<ActivityResponse> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            statistics.clear();
+            ActivityCursorPage page = dashboardService.getRecentActivities(null, null, cursor, 2);
+            assertEquals(1, statistics.getPrepareStatementCount());
+
+            all.addAll(page.content());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, all.size());
+        assertEquals(5, new HashSet<>(all).size());
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).timestamp().isAfter(all.get(i - 1).timestamp()));
+        }
+    }
+
+    @Test
+    @DisplayName("Feed deve filtrar por projeto e por quem fez a ação")
+    void shouldFilterByProjectAndActor() {
+        ActivityCursorPage mobile = dashboardService.getRecentActivities("Mobile", null, null, 10);
+        ActivityCursorPage byAna = dashboardService.getRecentActivities(null, ana.getId(), null, 10);
+
+        assertEquals(List.of("Push"), mobile.content().stream().map(ActivityResponse::taskTitle).toList());
+        assertFalse(mobile.hasNext());
+
+        assertEquals(1, byAna.content().size());
+        assertEquals("Ana", byAna.content().get(0).authorName());
+        assertEquals("concluiu a tarefa", byAna.content().get(0).action());
+    }
+
+    @Test
+    @DisplayName("Atividade guarda o título do momento da ação")
+    void shouldKeepTitleAtTimeOfAction() {
+        List<ActivityResponse> apiActivities = dashboardService.getRecentActivities("WebApp", admin.getId(), null, 10)
+                .content().stream()
+                .filter(activity -> api.id().equals(activity.taskId()))
+                .toList();
+
+        assertEquals(2, apiActivities.size());
+        assertTrue(apiActivities.stream().anyMatch(a -> a.action().equals("criou a tarefa") && a.taskTitle().equals("Criar API")));
+        assertTrue(apiActivities.stream().anyMatch(a -> a.action().equals("atualizou a tarefa") && a.taskTitle().equals("Criar API v2")));
+    }
+
+    @Test
+    @DisplayName("Cursor adulterado deve ser rejeitado")
+    void shouldRejectInvalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> dashboardService.getRecentActivities(null, null, "nao-e-um-cursor", 5));
+    }
+
+    private TaskRequest request(String title, String project) {
+        return new TaskRequest(title, "Descrição", TaskStatus.TO_DO, Priority.MEDIUM,
+                LocalDate.now().plusDays(7), project, List.of(), ana.getId());
+    }
+
+    private TaskUpdateRequest update(String title, TaskStatus status) {
+        return new TaskUpdateRequest(title, null, status, null, null, null, null, null);
+    }
+
+    private Member persistMember(String name, Role role) {
+        Member member = Member.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@test.com")
+                .password("hash")
+                .role(role)
+                .department("TI")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        return entityManager.persist(member);
+    }
+}
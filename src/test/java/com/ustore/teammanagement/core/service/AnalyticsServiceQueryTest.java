@@ -0,0 +1,279 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.TaskPriorityCount;
+import com.ustore.teammanagement.core.repository.projection.TaskStatusCount;
+import com.ustore.teammanagement.payload.dto.response.MemberPerformanceResponse;
+import com.ustore.teammanagement.payload.dto.response.OverviewResponse;
+import com.ustore.teammanagement.payload.dto.response.ProjectProgressResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({AnalyticsService.class, AnalyticsExecutor.class, LateTaskPolicy.class, SimpleMeterRegistry.class})
+class AnalyticsServiceQueryTest {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Overview deve ser respondido com uma única consulta e sem carregar entidades")
+    void overviewShouldUseSingleAggregateQuery() {
+        Member active = persistMember("Ana", MemberStatus.ACTIVE);
+        persistMember("Bruno", MemberStatus.ACTIVE);
+        persistMember("Carla", MemberStatus.INACTIVE);
+
+        persistTask(TaskStatus.TO_DO, active);
+        persistTask(TaskStatus.IN_PROGRESSO, active);
+        persistTask(TaskStatus.LATE, active);
+        persistTask(TaskStatus.COMPLETED, active);
+        persistTask(null, null);
+
+        OverviewResponse response = measure(() -> analyticsService.AnalyticsOverview());
+
+        assertEquals(3, response.activeTasks());
+        assertEquals(1, response.lateTasks());
+        assertEquals(20, response.completionRate());
+        assertEquals(2, response.activeMembers());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Histogramas de status e prioridade devem ser agrupados no banco")
+    void histogramsShouldBeGroupedInDatabase() {
+        Member active = persistMember("Ana", MemberStatus.ACTIVE);
+        persistTask(TaskStatus.TO_DO, active);
+        persistTask(TaskStatus.TO_DO, active);
+        persistTask(TaskStatus.COMPLETED, active);
+        persistTask(null, null);
+
+        List<TaskStatusCount> byStatus = measure(() -> taskRepository.countGroupedByStatus(LocalDate.now()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        List<TaskPriorityCount> byPriority = measure(() -> taskRepository.countGroupedByPriority());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        Map<TaskStatus, Long> statusTotals = byStatus.stream()
+                .filter(row -> row.status() != null)
+                .collect(Collectors.toMap(TaskStatusCount::status, TaskStatusCount::total));
+        assertEquals(Map.of(TaskStatus.TO_DO, 2L, TaskStatus.COMPLETED, 1L), statusTotals);
+        assertEquals(3, byStatus.size());
+        assertEquals(List.of(new TaskPriorityCount(Priority.MEDIUM, 4)), byPriority);
+    }
+
+    @Test
+    @DisplayName("Performance deve usar o mesmo número de consultas para qualquer tamanho de página")
+    void performanceShouldUseConstantStatementsRegardlessOfPageSize() {
+        Member ana = persistMember("Ana", MemberStatus.ACTIVE);
+        Member bruno = persistMember("Bruno", MemberStatus.ACTIVE);
+        for (String name : List.of("Carla", "Diego", "Elisa", "Fabio", "Gabi")) {
+            persistMember(name, MemberStatus.ACTIVE);
+        }
+
+        persistTask(TaskStatus.COMPLETED, ana);
+        persistTask(TaskStatus.COMPLETED, ana);
+        persistTask(TaskStatus.TO_DO, ana);
+        persistTask(TaskStatus.IN_PROGRESSO, bruno);
+
+        Page<MemberPerformanceResponse> small =
+                measure(() -> analyticsService.getPerformance(PageRequest.of(0, 2, Sort.by("name"))));
+        long smallStatements = statistics.getPrepareStatementCount();
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        Page<MemberPerformanceResponse> large =
+                measure(() -> analyticsService.getPerformance(PageRequest.of(0, 6, Sort.by("name"))));
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // Página + total: duas consultas, seja com 2 ou 6 membros.
+        assertEquals(2, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+
+        assertEquals(2, small.getContent().size());
+        assertEquals(6, large.getContent().size());
+        assertEquals(7, small.getTotalElements());
+
+        MemberPerformanceResponse first = small.getContent().get(0);
+        assertEquals("Ana", first.name());
+        assertEquals(3, first.tasksAssigned());
+        assertEquals(2, first.tasksCompleted());
+
+        MemberPerformanceResponse second = small.getContent().get(1);
+        assertEquals("Bruno", second.name());
+        assertEquals(1, second.tasksAssigned());
+        assertEquals(0, second.tasksCompleted());
+        assertEquals(0, large.getContent().get(5).tasksAssigned());
+    }
+
+    @Test
+    @DisplayName("completedAt deve ser preenchido ao concluir e limpo ao reabrir a tarefa")
+    void completedAtShouldFollowStatusTransitions() {
+        Member ana = persistMember("Ana", MemberStatus.ACTIVE);
+        Task task = persistTask(TaskStatus.IN_PROGRESSO, ana);
+        entityManager.flush();
+        assertNull(task.getCompletedAt());
+
+        task.setStatus(TaskStatus.COMPLETED);
+        entityManager.flush();
+        assertNotNull(task.getCompletedAt());
+
+        task.setStatus(TaskStatus.REVISION);
+        entityManager.flush();
+        assertNull(task.getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("Tempo médio de conclusão e tendência semanal devem vir da consulta agrupada")
+    void performanceShouldComputeAverageCompletionAndTrend() {
+        Member ana = persistMember("Ana", MemberStatus.ACTIVE);
+        Member bruno = persistMember("Bruno", MemberStatus.ACTIVE);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // Ana: 3 dias e 2 dias nesta semana, 1 dia na semana anterior.
+        completeAt(persistTask(TaskStatus.COMPLETED, ana), now.minusDays(5), now.minusDays(2));
+        completeAt(persistTask(TaskStatus.COMPLETED, ana), now.minusDays(3), now.minusDays(1));
+        completeAt(persistTask(TaskStatus.COMPLETED, ana), now.minusDays(11), now.minusDays(10));
+        persistTask(TaskStatus.TO_DO, bruno);
+
+        Page<MemberPerformanceResponse> page =
+                measure(() -> analyticsService.getPerformance(PageRequest.of(0, 10, Sort.by("name"))));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        MemberPerformanceResponse first = page.getContent().get(0);
+        assertEquals("Ana", first.name());
+        assertEquals(2.0, first.avgCompletionTime(), 0.01);
+        assertEquals(1, first.trend());
+
+        MemberPerformanceResponse second = page.getContent().get(1);
+        assertEquals(0.0, second.avgCompletionTime());
+        assertEquals(0, second.trend());
+    }
+
+    @Test
+    @DisplayName("Progresso por projeto deve ser agregado numa consulta, sem carregar tarefas nem membros")
+    void projectProgressShouldUseSingleAggregateQuery() {
+        Member ana = persistMember("Ana", MemberStatus.ACTIVE);
+        Member bruno = persistMember("Bruno", MemberStatus.ACTIVE);
+
+        Task late = persistTask(TaskStatus.IN_PROGRESSO, ana);
+        late.setDueDate(LocalDate.now().minusDays(2));
+        late.setPriority(Priority.URGENT);
+        persistTask(TaskStatus.COMPLETED, bruno);
+        persistTask(TaskStatus.TO_DO, ana);
+
+        Task mobile = persistTask(TaskStatus.COMPLETED, ana);
+        mobile.setProject("Mobile");
+        mobile.setPriority(Priority.LOW);
+
+        List<ProjectProgressResponse> projects = measure(() -> analyticsService.getProjectProgress());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, projects.size());
+
+        ProjectProgressResponse mobileProgress = projects.get(0);
+        assertEquals("Mobile", mobileProgress.name());
+        assertEquals(TaskStatus.COMPLETED, mobileProgress.status());
+        assertEquals(Priority.LOW, mobileProgress.priority());
+
+        ProjectProgressResponse web = projects.get(1);
+        assertEquals("WebApp", web.name());
+        assertEquals(AnalyticsService.projectId("WebApp"), web.id());
+        assertEquals(3, web.totalTasks());
+        assertEquals(1, web.completedTasks());
+        assertEquals(2, web.teamMembers());
+        assertEquals(LocalDate.now().minusDays(2), web.dueDate());
+        assertEquals(Priority.URGENT, web.priority());
+        assertEquals(TaskStatus.LATE, web.status());
+    }
+
+    private void completeAt(Task task, OffsetDateTime createdAt, OffsetDateTime completedAt) {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.createdAt = :createdAt, t.completedAt = :completedAt WHERE t.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("completedAt", completedAt)
+                .setParameter("id", task.getId())
+                .executeUpdate();
+    }
+
+    private <T> T measure(java.util.function.Supplier<T> action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return action.get();
+    }
+
+    private Member persistMember(String name, MemberStatus status) {
+        Member member = Member.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@test.com")
+                .password("hash")
+                .role(Role.MEMBER)
+                .department("TI")
+                .status(status)
+                .build();
+        return entityManager.persist(member);
+    }
+
+    private Task persistTask(TaskStatus status, Member assignee) {
+        Task task = Task.builder()
+                .title("Tarefa " + status)
+                .project("WebApp")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(LocalDate.now().plusDays(7))
+                .assignee(assignee)
+                .createdBy(assignee)
+                .build();
+        return entityManager.persist(task);
+    }
+}
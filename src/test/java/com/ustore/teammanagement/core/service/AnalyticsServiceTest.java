@@ -2,18 +2,24 @@ package com.ustore.teammanagement.core.service;
 
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.entity.Task;
-import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.TaskStatus;
 import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.ProjectAggregate;
+import com.ustore.teammanagement.core.repository.projection.TaskOverviewCounts;
+import com.ustore.teammanagement.core.repository.projection.TaskPriorityCount;
+import com.ustore.teammanagement.core.repository.projection.TaskStatusCount;
 import com.ustore.teammanagement.payload.dto.response.AnalyticsTaskResponse;
 import com.ustore.teammanagement.payload.dto.response.MemberPerformanceResponse;
 import com.ustore.teammanagement.payload.dto.response.OverviewResponse;
 import com.ustore.teammanagement.payload.dto.response.ProjectProgressResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -26,9 +32,12 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,9 +50,21 @@ class AnalyticsServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
-    @InjectMocks
+    private AnalyticsExecutor analyticsExecutor;
+
     private AnalyticsService analyticsService;
 
+    @BeforeEach
+    void setUp() {
+        analyticsExecutor = new AnalyticsExecutor(4, 8, new SimpleMeterRegistry());
+        analyticsService = new AnalyticsService(taskRepository, memberRepository, analyticsExecutor, new LateTaskPolicy(false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        analyticsExecutor.shutdown();
+    }
+
     private Task newTask(TaskStatus status, Priority priority) {
         Task t = new Task();
         t.setStatus(status);
@@ -53,15 +74,8 @@ class AnalyticsServiceTest {
 
     @Test
     void shouldReturnCorrectOverviewAnalytics() {
-        List<Task> tasks = List.of(
-                newTask(TaskStatus.IN_PROGRESSO, Priority.HIGH),
-                newTask(TaskStatus.COMPLETED, Priority.MEDIUM),
-                newTask(TaskStatus.LATE, Priority.LOW),
-                newTask(TaskStatus.IN_PROGRESSO, Priority.MEDIUM)
-        );
-
-        when(taskRepository.findAll()).thenReturn(tasks);
-        when(memberRepository.countByStatus(MemberStatus.ACTIVE)).thenReturn(7L);
+        when(taskRepository.countOverview(any()))
+                .thenReturn(new TaskOverviewCounts(4, 2, 1, 1, 7));
 
         OverviewResponse response = analyticsService.AnalyticsOverview();
 
@@ -72,18 +86,22 @@ class AnalyticsServiceTest {
         assertEquals(25, response.completionRate());
 
         assertEquals(7L, response.activeMembers());
+
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void shouldReturnCorrectAnalyticsTasks() {
-        List<Task> tasks = List.of(
-                newTask(TaskStatus.IN_PROGRESSO, Priority.HIGH),
-                newTask(TaskStatus.COMPLETED, Priority.MEDIUM),
-                newTask(TaskStatus.IN_PROGRESSO, Priority.MEDIUM),
-                newTask(TaskStatus.LATE, Priority.LOW)
-        );
-
-        when(taskRepository.findAll()).thenReturn(tasks);
+        when(taskRepository.countGroupedByStatus(any())).thenReturn(List.of(
+                new TaskStatusCount(TaskStatus.IN_PROGRESSO, 2),
+                new TaskStatusCount(TaskStatus.COMPLETED, 1),
+                new TaskStatusCount(TaskStatus.LATE, 1)
+        ));
+        when(taskRepository.countGroupedByPriority()).thenReturn(List.of(
+                new TaskPriorityCount(Priority.HIGH, 1),
+                new TaskPriorityCount(Priority.MEDIUM, 2),
+                new TaskPriorityCount(Priority.LOW, 1)
+        ));
 
         AnalyticsTaskResponse response = analyticsService.getAnalyticsTasks(7);
 
@@ -94,6 +112,68 @@ class AnalyticsServiceTest {
         assertEquals(1, response.tasksByPriority().get(Priority.HIGH));
         assertEquals(2, response.tasksByPriority().get(Priority.MEDIUM));
         assertEquals(1, response.tasksByPriority().get(Priority.LOW));
+
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Com LATE calculado, as vencidas dos status em aberto devem ir para LATE")
+    void shouldMoveOverdueToLateWhenDerived() {
+        AnalyticsService derived = new AnalyticsService(taskRepository, memberRepository, analyticsExecutor,
+                new LateTaskPolicy(true));
+        when(taskRepository.countGroupedByStatus(any())).thenReturn(List.of(
+                new TaskStatusCount(TaskStatus.TO_DO, 3, 1),
+                new TaskStatusCount(TaskStatus.REVISION, 2, 2),
+                new TaskStatusCount(TaskStatus.LATE, 1, 1),
+                new TaskStatusCount(TaskStatus.COMPLETED, 4, 2)
+        ));
+        when(taskRepository.countGroupedByPriority()).thenReturn(List.of());
+
+        AnalyticsTaskResponse response = derived.getAnalyticsTasks(7);
+
+        assertEquals(Map.of(TaskStatus.TO_DO, 2L, TaskStatus.LATE, 4L, TaskStatus.COMPLETED, 4L),
+                response.tasksByStatus());
+    }
+
+    @Test
+    @DisplayName("Tarefas sem status ou prioridade não devem quebrar os histogramas")
+    void shouldIgnoreNullStatusAndPriority() {
+        when(taskRepository.countGroupedByStatus(any())).thenReturn(List.of(
+                new TaskStatusCount(null, 3),
+                new TaskStatusCount(TaskStatus.TO_DO, 1)
+        ));
+        when(taskRepository.countGroupedByPriority()).thenReturn(List.of(
+                new TaskPriorityCount(null, 4)
+        ));
+
+        AnalyticsTaskResponse response = analyticsService.getAnalyticsTasks(7);
+
+        assertEquals(Map.of(TaskStatus.TO_DO, 1L), response.tasksByStatus());
+        assertEquals(Map.of(), response.tasksByPriority());
+    }
+
+    @Test
+    @DisplayName("As consultas do /analytics/tasks devem rodar em paralelo")
+    void shouldRunAnalyticsQueriesConcurrently() {
+        // Só passa se as quatro consultas estiverem em execução ao mesmo tempo.
+        CyclicBarrier barrier = new CyclicBarrier(4);
+        Runnable await = () -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        when(taskRepository.countGroupedByStatus(any())).thenAnswer(inv -> { await.run(); return List.of(); });
+        when(taskRepository.countGroupedByPriority()).thenAnswer(inv -> { await.run(); return List.of(); });
+        when(taskRepository.findTaskTrend(7)).thenAnswer(inv -> { await.run(); return List.of(); });
+        when(taskRepository.findDepartmentPerformance()).thenAnswer(inv -> { await.run(); return List.of(); });
+
+        AnalyticsTaskResponse response = analyticsService.getAnalyticsTasks(7);
+
+        assertEquals(Map.of(), response.tasksByStatus());
+        assertFalse(barrier.isBroken());
     }
 
     @Test
@@ -149,24 +229,11 @@ class AnalyticsServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        Member member1 = new Member();
-        member1.setId(UUID.randomUUID());
-        member1.setName("João Silva");
-
-        Member member2 = new Member();
-        member2.setId(UUID.randomUUID());
-        member2.setName("Maria Souza");
-
-        List<Member> members = List.of(member1, member2);
-        Page<Member> memberPage = new PageImpl<>(members, pageable, members.size());
-
-        when(memberRepository.findAll(pageable)).thenReturn(memberPage);
-
-        when(taskRepository.countByAssignee(member1)).thenReturn(10L);
-        when(taskRepository.countByAssigneeAndStatus(member1, TaskStatus.COMPLETED)).thenReturn(7L);
-
-        when(taskRepository.countByAssignee(member2)).thenReturn(5L);
-        when(taskRepository.countByAssigneeAndStatus(member2, TaskStatus.COMPLETED)).thenReturn(3L);
+        List<MemberPerformanceResponse> rows = List.of(
+                new MemberPerformanceResponse(UUID.randomUUID(), "João Silva", null, null, 7, 10, 2.5, 1L),
+                new MemberPerformanceResponse(UUID.randomUUID(), "Maria Souza", null, null, 3, 5, null, -2L)
+        );
+        when(memberRepository.findPerformance(any(), any(), eq(pageable))).thenReturn(new PageImpl<>(rows, pageable, rows.size()));
 
         Page<MemberPerformanceResponse> response = analyticsService.getPerformance(pageable);
 
@@ -176,59 +243,39 @@ class AnalyticsServiceTest {
         MemberPerformanceResponse r1 = response.getContent().get(0);
         assertEquals(10L, r1.tasksAssigned());
         assertEquals(7L, r1.tasksCompleted());
+        assertEquals(70.0, r1.completionRate());
+        assertEquals(2.5, r1.avgCompletionTime());
+        assertEquals(1, r1.trend());
         assertEquals("João Silva", r1.name());
 
         MemberPerformanceResponse r2 = response.getContent().get(1);
         assertEquals(5L, r2.tasksAssigned());
         assertEquals(3L, r2.tasksCompleted());
         assertEquals("Maria Souza", r2.name());
+        assertEquals(0.0, r2.avgCompletionTime());
+        assertEquals(-2, r2.trend());
 
-        verify(memberRepository).findAll(pageable);
-        verify(taskRepository, times(1)).countByAssignee(member1);
-        verify(taskRepository, times(1)).countByAssigneeAndStatus(member1, TaskStatus.COMPLETED);
-
-        verify(taskRepository, times(1)).countByAssignee(member2);
-        verify(taskRepository, times(1)).countByAssigneeAndStatus(member2, TaskStatus.COMPLETED);
+        verify(memberRepository).findPerformance(any(), any(), eq(pageable));
+        verify(memberRepository, never()).findAll(pageable);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void shouldReturnProjectProgressCorrectly() {
 
-        Member member1 = new Member();
-        member1.setId(UUID.randomUUID());
-
-        Member member2 = new Member();
-        member2.setId(UUID.randomUUID());
-
-        Task t1 = new Task();
-        t1.setProject("WebApp");
-        t1.setStatus(TaskStatus.IN_PROGRESSO);
-        t1.setPriority(Priority.HIGH);
-        t1.setAssignee(member1);
-        t1.setDueDate(LocalDate.of(2025, 12, 10));
-
-        Task t2 = new Task();
-        t2.setProject("WebApp");
-        t2.setStatus(TaskStatus.COMPLETED);
-        t2.setPriority(Priority.HIGH);
-        t2.setAssignee(member2);
-        t2.setDueDate(LocalDate.of(2025, 12, 5));
-
-        Task t3 = new Task();
-        t3.setProject("Mobile");
-        t3.setStatus(TaskStatus.COMPLETED);
-        t3.setPriority(Priority.LOW);
-        t3.setAssignee(member1);
-        t3.setDueDate(LocalDate.of(2025, 12, 1));
-
-        List<Task> allTasks = List.of(t1, t2, t3);
+        LocalDate webDueDate = LocalDate.now().plusDays(5);
+        LocalDate mobileDueDate = LocalDate.now().minusDays(3);
 
-        when(taskRepository.findAll()).thenReturn(allTasks);
+        when(taskRepository.aggregateByProject(any())).thenReturn(List.of(
+                new ProjectAggregate("Mobile", 1, 1, 1, mobileDueDate, Priority.LOW.ordinal(), 0),
+                new ProjectAggregate("WebApp", 2, 1, 2, webDueDate, Priority.HIGH.ordinal(), 0),
+                new ProjectAggregate("Legado", 3, 1, 1, null, null, 2)
+        ));
 
         List<ProjectProgressResponse> response = analyticsService.getProjectProgress();
 
         assertNotNull(response);
-        assertEquals(2, response.size());
+        assertEquals(3, response.size());
 
 
         ProjectProgressResponse web = response.stream()
@@ -241,7 +288,7 @@ class AnalyticsServiceTest {
         assertEquals(1, web.completedTasks());
         assertEquals(50.0, web.progress());
         assertEquals(2, web.teamMembers());
-        assertEquals(LocalDate.of(2025, 12, 5), web.dueDate());
+        assertEquals(webDueDate, web.dueDate());
         assertEquals(Priority.HIGH, web.priority());
         assertEquals(TaskStatus.IN_PROGRESSO, web.status());
 
@@ -255,13 +302,30 @@ class AnalyticsServiceTest {
         assertEquals(1, mobile.completedTasks());
         assertEquals(100.0, mobile.progress());
         assertEquals(1, mobile.teamMembers());
-        assertEquals(LocalDate.of(2025, 12, 1), mobile.dueDate());
+        assertEquals(mobileDueDate, mobile.dueDate());
         assertEquals(Priority.LOW, mobile.priority());
         assertEquals(TaskStatus.COMPLETED, mobile.status());
 
-        verify(taskRepository, times(1)).findAll();
+        ProjectProgressResponse legado = response.get(2);
+        assertEquals(TaskStatus.LATE, legado.status());
+        assertEquals(Priority.MEDIUM, legado.priority());
+
+        verify(taskRepository, never()).findAll();
     }
 
+    @Test
+    @DisplayName("O id do projeto deve ser o mesmo entre chamadas")
+    void shouldReturnStableProjectIds() {
+        when(taskRepository.aggregateByProject(any())).thenReturn(List.of(
+                new ProjectAggregate("WebApp", 1, 0, 1, null, null, 0)
+        ));
+
+        UUID first = analyticsService.getProjectProgress().get(0).id();
+        UUID second = analyticsService.getProjectProgress().get(0).id();
+
+        assertEquals(first, second);
+        assertEquals(AnalyticsService.projectId("WebApp"), first);
+    }
 
     @Test
     void shouldReturnCompletedWhenAllTasksCompleted() {
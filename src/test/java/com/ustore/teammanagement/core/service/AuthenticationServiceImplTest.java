@@ -1,20 +1,26 @@
 package com.ustore.teammanagement.core.service;
 
 import com.ustore.teammanagement.core.entity.Member;
-import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.payload.dto.request.LoginRequest;
+import com.ustore.teammanagement.exceptions.TooManyRequestsException;
+import com.ustore.teammanagement.security.LoginExecutor;
+import com.ustore.teammanagement.security.LoginThrottle;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,13 +34,27 @@ class AuthenticationServiceImplTest {
     private AuthenticationManager authenticationManager;
 
     @Mock
-    private MemberRepository memberRepository;
+    private TokenVersionRegistry tokenVersions;
 
-    @InjectMocks
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    private LoginExecutor loginExecutor;
     private AuthenticationServiceImpl authenticationService;
 
+    @BeforeEach
+    void setUp() {
+        loginExecutor = new LoginExecutor(1, 1, 5000, 2, new SimpleMeterRegistry());
+        authenticationService = new AuthenticationServiceImpl(authenticationManager, tokenVersions, loginExecutor, loginThrottle);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
     @Test
-    @DisplayName("Deve autenticar usuário e retornar Member com sucesso")
+    @DisplayName("Deve autenticar usuário e retornar o Member carregado na verificação da senha")
     void shouldAuthenticateUserSuccessfully() {
 
         LoginRequest request = new LoginRequest("user@example.com", "123456");
@@ -43,48 +63,66 @@ class AuthenticationServiceImplTest {
         member.setId(UUID.randomUUID());
         member.setEmail("user@example.com");
 
-        Authentication authenticationMock = mock(Authentication.class);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(member, null, List.of());
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authenticationMock);
-
-        when(memberRepository.findByEmail("user@example.com"))
-                .thenReturn(Optional.of(member));
+                .thenReturn(authentication);
 
-        Member result = authenticationService.authenticate(request);
+        Member result = authenticationService.authenticate(request, "10.0.0.1");
 
-        assertNotNull(result);
-        assertEquals("user@example.com", result.getEmail());
+        assertSame(member, result);
 
         verify(authenticationManager, times(1))
                 .authenticate(any(UsernamePasswordAuthenticationToken.class));
-
-        verify(memberRepository, times(1))
-                .findByEmail("user@example.com");
+        verify(loginThrottle).acquire("user@example.com", "10.0.0.1");
+        verify(loginThrottle).recordSuccess(member);
+        verify(tokenVersions, times(1)).remember(member);
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando email não for encontrado no banco")
+    @DisplayName("Deve lançar exceção quando o principal autenticado não for um Member")
     void shouldThrowExceptionWhenUserNotFound() {
 
         LoginRequest request = new LoginRequest("notfound@example.com", "123456");
 
-        Authentication authenticationMock = mock(Authentication.class);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("notfound@example.com", null, List.of());
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authenticationMock);
-
-        when(memberRepository.findByEmail("notfound@example.com"))
-                .thenReturn(Optional.empty());
+                .thenReturn(authentication);
 
         assertThrows(UsernameNotFoundException.class, () -> {
-            authenticationService.authenticate(request);
+            authenticationService.authenticate(request, "10.0.0.1");
         });
 
-        verify(authenticationManager, times(1))
-                .authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verifyNoInteractions(tokenVersions);
+    }
+
+    @Test
+    @DisplayName("Deve propagar credenciais inválidas lançadas no pool de login")
+    void shouldPropagateBadCredentials() {
+
+        LoginRequest request = new LoginRequest("user@example.com", "errada");
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class, () -> authenticationService.authenticate(request, "10.0.0.1"));
+
+        verify(loginThrottle).recordFailure("user@example.com");
+        verifyNoInteractions(tokenVersions);
+    }
+
+    @Test
+    @DisplayName("Não deve verificar a senha quando o throttle recusar a tentativa")
+    void shouldNotVerifyPasswordWhenThrottled() {
+
+        LoginRequest request = new LoginRequest("user@example.com", "123456");
+
+        doThrow(new TooManyRequestsException("Muitas tentativas", 30))
+                .when(loginThrottle).acquire("user@example.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> authenticationService.authenticate(request, "10.0.0.1"));
 
-        verify(memberRepository, times(1))
-                .findByEmail("notfound@example.com");
+        verifyNoInteractions(authenticationManager, tokenVersions);
     }
 }
@@ -1,54 +1,46 @@
 package com.ustore.teammanagement.core.service;
 
-import com.ustore.teammanagement.core.entity.Member;
-import com.ustore.teammanagement.core.entity.Task;
-import com.ustore.teammanagement.core.enums.MemberStatus;
-import com.ustore.teammanagement.core.enums.TaskStatus;
-import com.ustore.teammanagement.core.repository.MemberRepository;
+import com.ustore.teammanagement.core.repository.ActivityRepository;
 import com.ustore.teammanagement.core.repository.TaskRepository;
-import com.ustore.teammanagement.payload.dto.response.ActivityResponse;
+import com.ustore.teammanagement.core.repository.projection.DashboardCounts;
 import com.ustore.teammanagement.payload.dto.response.DashboardResponse;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardServiceTest {
 
     @Mock
-    private MemberRepository memberRepository;
+    private TaskRepository taskRepository;
 
     @Mock
-    private TaskRepository taskRepository;
+    private ActivityRepository activityRepository;
 
-    @InjectMocks
     private DashboardService dashboardService;
 
     @BeforeEach
     void setUp() {
-        reset(memberRepository, taskRepository);
+        dashboardService = new DashboardService(taskRepository, activityRepository, new LateTaskPolicy(false), 2000);
     }
 
     @Test
     void testGetDashboardStatus() {
-        when(memberRepository.countByStatus(MemberStatus.ACTIVE)).thenReturn(10L);
-        when(taskRepository.countByStatusNot(TaskStatus.COMPLETED)).thenReturn(6L);
-        when(taskRepository.countByStatusIn(List.of(
-                TaskStatus.TO_DO,
-                TaskStatus.IN_PROGRESSO,
-                TaskStatus.REVISION
-        ))).thenReturn(4L);
-        when(taskRepository.count()).thenReturn(12L);
+        when(taskRepository.countDashboard(any())).thenReturn(new DashboardCounts(12, 6, 4, 1, 10));
 
         DashboardResponse response = dashboardService.getDashboardStats();
 
@@ -61,10 +53,7 @@ class DashboardServiceTest {
 
     @Test
     void testGetDashboardStatus_NoTasks() {
-        when(memberRepository.countByStatus(MemberStatus.ACTIVE)).thenReturn(3L);
-        when(taskRepository.countByStatusNot(TaskStatus.COMPLETED)).thenReturn(0L);
-        when(taskRepository.countByStatusIn(any())).thenReturn(0L);
-        when(taskRepository.count()).thenReturn(0L);
+        when(taskRepository.countDashboard(any())).thenReturn(new DashboardCounts(0, 0, 0, 0, 3));
 
         DashboardResponse response = dashboardService.getDashboardStats();
 
@@ -75,59 +64,56 @@ class DashboardServiceTest {
     }
 
     @Test
-    void testGetRecentActivities() {
-        Member creator = new Member();
-        creator.setName("Alice");
-
-        Task t1 = new Task();
-        t1.setTitle("Criar API");
-        t1.setStatus(TaskStatus.TO_DO);
-        t1.setCreatedBy(creator);
-
-        Task t2 = new Task();
-        t2.setTitle("Revisar código");
-        t2.setStatus(TaskStatus.COMPLETED);
-        t2.setCreatedBy(creator);
-
-        Task t3 = new Task();
-        t3.setTitle("Em andamento");
-        t3.setStatus(TaskStatus.IN_PROGRESSO);
-
-        Pageable pageable = PageRequest.of(0, 5);
-
-        when(taskRepository.findTop5RecentTasks(pageable))
-                .thenReturn(List.of(t1, t2, t3));
-
-        List<ActivityResponse> response = dashboardService.getRecentActivities();
-
-        assertEquals(2, response.size());
-
-        ActivityResponse r1 = response.get(0);
-        assertEquals("Alice", t1.getCreatedBy().getName());
-        assertEquals("criou a tarefa", r1.action());
-        assertEquals("Criar API", t1.getTitle());
-
-        ActivityResponse r2 = response.get(1);
-        assertEquals("Alice", t2.getCreatedBy().getName());
-        assertEquals("concluiu a tarefa", r2.action());
-        assertEquals("Revisar código", t2.getTitle());
+    @DisplayName("200 requisições simultâneas ao dashboard devem gerar uma única consulta")
+    void concurrentPollsShouldShareOneQuery() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.countDashboard(any())).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new DashboardCounts(12, 6, 4, 1, 10);
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(200);
+        try {
+            List<Future<DashboardResponse>> polls = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                polls.add(pool.submit(dashboardService::getDashboardStats));
+            }
+            assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            for (Future<DashboardResponse> poll : polls) {
+                assertEquals(6L, poll.get(5, TimeUnit.SECONDS).activeTasks());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(taskRepository, times(1)).countDashboard(any());
     }
 
     @Test
-    void testGetRecentActivities_UnknownCreator() {
-        Task t = new Task();
-        t.setTitle("Tarefa misteriosa");
-        t.setStatus(TaskStatus.TO_DO);
-        t.setCreatedBy(null);
-
-        Pageable pageable = PageRequest.of(0, 5);
-
-        when(taskRepository.findTop5RecentTasks(pageable))
-                .thenReturn(List.of(t));
+    @DisplayName("Depois do TTL o dashboard deve consultar de novo e falhas não devem ficar em cache")
+    void shouldReloadAfterTtlAndNotCacheFailures() {
+        DashboardService noCache = new DashboardService(taskRepository, activityRepository, new LateTaskPolicy(false), 0);
+        when(taskRepository.countDashboard(any()))
+                .thenThrow(new IllegalStateException("banco fora"))
+                .thenReturn(new DashboardCounts(1, 1, 1, 0, 1));
+
+        assertThrows(IllegalStateException.class, noCache::getDashboardStats);
+        assertEquals(1L, noCache.getDashboardStats().activeTasks());
+        assertEquals(1L, noCache.getDashboardStats().activeTasks());
+
+        verify(taskRepository, times(3)).countDashboard(any());
+    }
 
-        List<ActivityResponse> response = dashboardService.getRecentActivities();
+    @Test
+    @DisplayName("Com LATE calculado, as abertas vencidas não contam como pendentes")
+    void derivedLateShouldNotCountOverdueAsPending() {
+        DashboardService derived = new DashboardService(taskRepository, activityRepository, new LateTaskPolicy(true), 2000);
+        when(taskRepository.countDashboard(any())).thenReturn(new DashboardCounts(12, 6, 4, 1, 10));
 
-        assertEquals(1, response.size());
-        assertEquals("Desconhecido", response.get(0).authorName());
+        assertEquals(3L, derived.getDashboardStats().pendingReviews());
     }
-}
\ No newline at end of file
+}
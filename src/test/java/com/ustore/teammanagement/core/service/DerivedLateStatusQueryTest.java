@@ -0,0 +1,164 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.FilterMatch;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.TaskStatusCount;
+import com.ustore.teammanagement.payload.dto.response.DashboardResponse;
+import com.ustore.teammanagement.payload.dto.response.OverviewResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// tasks.late.derived=true: só a tarefa "Gravada" tem LATE no banco; as
+// outras atrasadas são calculadas pelo due_date.
+@DataJpaTest(properties = "tasks.late.derived=true")
+@ActiveProfiles("test")
+@Import({TaskService.class, AnalyticsService.class, DashboardService.class, AnalyticsExecutor.class,
+        LateTaskPolicy.class, DueDateScheduler.class, SchedulerLock.class, SimpleMeterRegistry.class})
+class DerivedLateStatusQueryTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Task overdueTodo;
+    private Task overdueReview;
+    private Task persistedLate;
+    private Task onTime;
+
+    @BeforeEach
+    void setUp() {
+        Member ana = persistMember();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        overdueTodo = persistTask("Vencida", TaskStatus.TO_DO, yesterday, ana);
+        overdueReview = persistTask("Revisão vencida", TaskStatus.REVISION, yesterday, ana);
+        persistedLate = persistTask("Gravada", TaskStatus.LATE, yesterday, ana);
+        onTime = persistTask("No prazo", TaskStatus.TO_DO, LocalDate.now(), ana);
+        persistTask("Concluída", TaskStatus.COMPLETED, yesterday, ana);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Filtro por LATE deve trazer as abertas vencidas e o status da resposta deve ser LATE")
+    void filterShouldUseDerivedStatus() {
+        Page<TaskResponse> late = filterByStatus(TaskStatus.LATE);
+        Page<TaskResponse> todo = filterByStatus(TaskStatus.TO_DO);
+
+        assertEquals(List.of(overdueTodo.getId(), overdueReview.getId(), persistedLate.getId()).stream().sorted().toList(),
+                late.map(TaskResponse::id).stream().sorted().toList());
+        assertTrue(late.stream().allMatch(task -> task.status() == TaskStatus.LATE));
+
+        assertEquals(List.of(onTime.getId()), todo.map(TaskResponse::id).toList());
+        assertEquals(TaskStatus.TO_DO, todo.getContent().get(0).status());
+    }
+
+    @Test
+    @DisplayName("Overview deve contar as abertas vencidas como LATE")
+    void overviewShouldCountDerivedLate() {
+        OverviewResponse overview = analyticsService.AnalyticsOverview();
+
+        assertEquals(1, overview.activeTasks());
+        assertEquals(3, overview.lateTasks());
+    }
+
+    @Test
+    @DisplayName("Histograma por status deve trazer quantas tarefas de cada status já venceram")
+    void statusHistogramShouldCountOverdue() {
+        Map<TaskStatus, TaskStatusCount> byStatus = taskRepository.countGroupedByStatus(LocalDate.now()).stream()
+                .collect(Collectors.toMap(TaskStatusCount::status, Function.identity()));
+
+        assertEquals(new TaskStatusCount(TaskStatus.TO_DO, 2, 1), byStatus.get(TaskStatus.TO_DO));
+        assertEquals(new TaskStatusCount(TaskStatus.REVISION, 1, 1), byStatus.get(TaskStatus.REVISION));
+        assertEquals(new TaskStatusCount(TaskStatus.LATE, 1, 1), byStatus.get(TaskStatus.LATE));
+    }
+
+    @Test
+    @DisplayName("Dashboard não deve contar tarefas vencidas como pendentes e deve sair de um único statement")
+    void dashboardShouldNotCountOverdueAsPending() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        DashboardResponse dashboard = dashboardService.getDashboardStats();
+
+        assertEquals(1, dashboard.pendingReviews());
+        assertEquals(4, dashboard.activeTasks());
+        assertEquals(1, dashboard.totalMembers());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Page<TaskResponse> filterByStatus(TaskStatus status) {
+        return taskService.filter(null, null, status, null, null, null, null, null, null, null,
+                FilterMatch.ALL, PageRequest.of(0, 10));
+    }
+
+    private Member persistMember() {
+        Member member = Member.builder()
+                .name("Ana")
+                .email("ana-" + UUID.randomUUID() + "@test.com")
+                .password("hash")
+                .role(Role.MEMBER)
+                .department("TI")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        return entityManager.persist(member);
+    }
+
+    private Task persistTask(String title, TaskStatus status, LocalDate dueDate, Member assignee) {
+        Task task = Task.builder()
+                .title(title)
+                .project("WebApp")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(dueDate)
+                .tags(new ArrayList<>())
+                .assignee(assignee)
+                .createdBy(assignee)
+                .build();
+        return entityManager.persist(task);
+    }
+}
@@ -0,0 +1,221 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"tasks.late.chunk-size=2", "tasks.due.horizon-days=2", "tasks.due.reminder-lead-hours=24"})
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@Import({DueDateScheduler.class, SchedulerLock.class, SimpleMeterRegistry.class})
+class DueDateSchedulerQueryTest {
+
+    @Autowired
+    private DueDateScheduler scheduler;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Statistics statistics;
+    private Member ana;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ana = persistMember();
+    }
+
+    @Test
+    @DisplayName("Reload deve carregar só as tarefas em aberto dentro do horizonte")
+    void reloadShouldLoadOnlyOpenTasksInsideHorizon() {
+        LocalDate today = LocalDate.now();
+        persistTask(TaskStatus.TO_DO, today);
+        persistTask(TaskStatus.IN_PROGRESSO, today.plusDays(2));
+        persistTask(TaskStatus.COMPLETED, today);
+        persistTask(TaskStatus.TO_DO, today.plusDays(10));
+        persistTask(TaskStatus.TO_DO, null);
+        entityManager.flush();
+        statistics.clear();
+
+        assertEquals(2, scheduler.reload());
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Timers vencidos devem marcar LATE em lotes e publicar os lembretes num evento")
+    void fireShouldMarkLateInChunksAndPublishReminders() {
+        LocalDate today = LocalDate.now();
+        List<Task> dueToday = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            dueToday.add(persistTask(TaskStatus.TO_DO, today));
+        }
+        Task completedLater = persistTask(TaskStatus.REVISION, today);
+        Task dueTomorrow = persistTask(TaskStatus.TO_DO, today.plusDays(1));
+        entityManager.flush();
+
+        scheduler.reload();
+
+        // concluída depois de entrar na roda: o UPDATE não deve marcá-la
+        completedLater.setStatus(TaskStatus.COMPLETED);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Instant afterMidnight = today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().plusSeconds(1);
+        assertEquals(3, scheduler.fire(afterMidnight));
+        // 4 timers LATE em blocos de 2
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        for (Task task : dueToday) {
+            assertEquals(TaskStatus.LATE, entityManager.find(Task.class, task.getId()).getStatus());
+        }
+        assertEquals(TaskStatus.COMPLETED, entityManager.find(Task.class, completedLater.getId()).getStatus());
+        assertEquals(TaskStatus.TO_DO, entityManager.find(Task.class, dueTomorrow.getId()).getStatus());
+
+        assertEquals(List.of(dueTomorrow.getId()), reminded());
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    @DisplayName("Tarefa concluída ou adiada para fora do horizonte deve sair da roda")
+    void trackShouldRemoveTasksThatLeftTheWindow() {
+        Task task = persistTask(TaskStatus.TO_DO, LocalDate.now());
+        entityManager.flush();
+
+        scheduler.track(task);
+        assertEquals(1, scheduler.size());
+
+        task.setDueDate(LocalDate.now().plusDays(30));
+        scheduler.track(task);
+        assertEquals(0, scheduler.size());
+
+        task.setDueDate(LocalDate.now().plusDays(1));
+        scheduler.track(task);
+        assertEquals(2, scheduler.size());
+
+        task.setStatus(TaskStatus.COMPLETED);
+        scheduler.track(task);
+        assertEquals(0, scheduler.size());
+    }
+
+    // Os testes abaixo avançam a roda e o último reload para depois de amanhã.
+    @Test
+    @DirtiesContext
+    @DisplayName("Reload não deve perder lembrete que venceu depois do último tick")
+    void reloadShouldKeepReminderDueSinceLastReload() {
+        Task task = persistTask(TaskStatus.TO_DO, LocalDate.now().plusDays(2));
+        entityManager.flush();
+        Instant reminderAt = LocalDate.now().plusDays(2).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        scheduler.reload(reminderAt.minusSeconds(60));
+        // nenhum tick antes do próximo reload, já depois do horário do lembrete
+        scheduler.reload(reminderAt.plusSeconds(60));
+        scheduler.fire(reminderAt.plusSeconds(61));
+
+        assertEquals(List.of(task.getId()), reminded());
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Reload não deve repetir lembrete já publicado")
+    void reloadShouldNotRepeatPublishedReminder() {
+        Task task = persistTask(TaskStatus.TO_DO, LocalDate.now().plusDays(2));
+        entityManager.flush();
+        Instant reminderAt = LocalDate.now().plusDays(2).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+        scheduler.reload(reminderAt.minusSeconds(60));
+        scheduler.fire(reminderAt.plusSeconds(1));
+        scheduler.reload(reminderAt.plusSeconds(2));
+        scheduler.fire(reminderAt.plusSeconds(60));
+
+        assertEquals(List.of(task.getId()), reminded());
+    }
+
+    @Test
+    @DisplayName("Refresh deve reagendar um bloco de tarefas pelo estado no banco numa consulta")
+    void refreshShouldRescheduleByIdsWithOneQuery() {
+        Task open = persistTask(TaskStatus.TO_DO, LocalDate.now().plusDays(1));
+        Task completed = persistTask(TaskStatus.TO_DO, LocalDate.now().plusDays(1));
+        entityManager.flush();
+        int before = scheduler.size();
+        scheduler.track(open);
+        scheduler.track(completed);
+        assertEquals(before + 4, scheduler.size());
+
+        completed.setStatus(TaskStatus.COMPLETED);
+        entityManager.flush();
+        statistics.clear();
+
+        scheduler.refresh(List.of(open.getId(), completed.getId()));
+
+        assertEquals(before + 2, scheduler.size());
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private List<UUID> reminded() {
+        return events.stream(TaskDueReminderEvent.class)
+                .flatMap(event -> event.taskIds().stream())
+                .toList();
+    }
+
+    private Member persistMember() {
+        Member member = Member.builder()
+                .name("Ana")
+                .email("ana-" + UUID.randomUUID() + "@test.com")
+                .password("hash")
+                .role(Role.MEMBER)
+                .department("TI")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        return entityManager.persist(member);
+    }
+
+    private Task persistTask(TaskStatus status, LocalDate dueDate) {
+        Task task = Task.builder()
+                .title("Tarefa " + status)
+                .project("Sprint")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(dueDate)
+                .tags(new ArrayList<>())
+                .assignee(ana)
+                .createdBy(ana)
+                .build();
+        return entityManager.persist(task);
+    }
+}
@@ -0,0 +1,135 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+// UPDATE ... RETURNING e advisory lock só existem no Postgres: roda contra
+// um Postgres embutido com as migrations reais.
+@DataJpaTest(properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=none", "tasks.late.chunk-size=2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({LateTaskScheduler.class, SchedulerLock.class, SimpleMeterRegistry.class})
+class LateTaskSchedulerPostgresTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private LateTaskScheduler scheduler;
+
+    @Autowired
+    private SchedulerLock schedulerLock;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        // initdb se recusa a rodar como root (ex.: alguns containers de build).
+        assumeFalse("root".equals(System.getProperty("user.name")), "Postgres não roda como root");
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @Test
+    @DisplayName("Deve marcar como LATE apenas as tarefas abertas e vencidas, em lotes")
+    void shouldMarkOnlyOpenOverdueTasks() {
+        Member ana = persistMember();
+        List<Task> overdue = new ArrayList<>();
+        for (TaskStatus status : List.of(TaskStatus.TO_DO, TaskStatus.IN_PROGRESSO, TaskStatus.REVISION)) {
+            overdue.add(persistTask(ana, status, LocalDate.now().minusDays(3)));
+        }
+        Task completed = persistTask(ana, TaskStatus.COMPLETED, LocalDate.now().minusDays(3));
+        Task future = persistTask(ana, TaskStatus.TO_DO, LocalDate.now().plusDays(3));
+        entityManager.flush();
+
+        assertEquals(3, scheduler.markLateTasks());
+
+        entityManager.clear();
+        for (Task task : overdue) {
+            assertEquals(TaskStatus.LATE, entityManager.find(Task.class, task.getId()).getStatus());
+        }
+        assertEquals(TaskStatus.COMPLETED, entityManager.find(Task.class, completed.getId()).getStatus());
+        assertEquals(TaskStatus.TO_DO, entityManager.find(Task.class, future.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Segundo nó não deve obter o lock enquanto o primeiro executa o job")
+    void shouldRunOnlyOneNodeAtATime() {
+        boolean[] otherNodeRan = {true};
+
+        boolean ran = schedulerLock.runIfAcquired(LateTaskScheduler.LOCK_NAME, () ->
+                otherNodeRan[0] = CompletableFuture.supplyAsync(() ->
+                        schedulerLock.runIfAcquired(LateTaskScheduler.LOCK_NAME, () -> { })).join());
+
+        assertTrue(ran);
+        assertFalse(otherNodeRan[0]);
+        assertTrue(schedulerLock.runIfAcquired(LateTaskScheduler.LOCK_NAME, () -> { }));
+    }
+
+    private Member persistMember() {
+        Member member = Member.builder()
+                .name("Ana")
+                .email("ana@test.com")
+                .password("hash")
+                .role(Role.MEMBER)
+                .department("TI")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        return entityManager.persist(member);
+    }
+
+    private Task persistTask(Member assignee, TaskStatus status, LocalDate dueDate) {
+        Task task = Task.builder()
+                .title("Tarefa " + status)
+                .description("Descrição")
+                .project("Sprint")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(dueDate)
+                .tags(new ArrayList<>())
+                .assignee(assignee)
+                .createdBy(assignee)
+                .build();
+        return entityManager.persist(task);
+    }
+}
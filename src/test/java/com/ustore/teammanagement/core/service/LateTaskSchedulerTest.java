@@ -1,20 +1,23 @@
 package com.ustore.teammanagement.core.service;
 
-import com.ustore.teammanagement.core.entity.Task;
-import com.ustore.teammanagement.core.enums.TaskStatus;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -24,64 +27,72 @@ class LateTaskSchedulerTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
-    private LateTaskScheduler scheduler;
-
-    @Test
-    @DisplayName("Deve marcar tarefas atrasadas como LATE e salvar no repositório")
-    void shouldMarkLateTasks() {
-
-        LocalDate today = LocalDate.now();
-
-        Task t1 = new Task();
-        t1.setStatus(TaskStatus.TO_DO);
-        t1.setDueDate(today.minusDays(1));
-
-        Task t2 = new Task();
-        t2.setStatus(TaskStatus.IN_PROGRESSO);
-        t2.setDueDate(today.minusDays(5));
-
-        Task t3 = new Task();
-        t3.setStatus(TaskStatus.REVISION);
-        t3.setDueDate(today.minusDays(2));
-
-        List<Task> overdueTasks = List.of(t1, t2, t3);
+    @Mock
+    private SchedulerLock schedulerLock;
 
-        when(taskRepository.findByStatusInAndDueDateBefore(
-                anyList(),
-                eq(today)
-        )).thenReturn(overdueTasks);
+    private SimpleMeterRegistry meterRegistry;
+    private LateTaskScheduler scheduler;
 
-        scheduler.markLateTasks();
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new LateTaskScheduler(taskRepository, schedulerLock, 100, meterRegistry);
+    }
 
-        assertEquals(TaskStatus.LATE, t1.getStatus());
-        assertEquals(TaskStatus.LATE, t2.getStatus());
-        assertEquals(TaskStatus.LATE, t3.getStatus());
+    @Test
+    @DisplayName("Deve marcar tarefas atrasadas em lotes até esvaziar e registrar as métricas")
+    void shouldMarkLateTasksInChunks() {
+        acquireLock();
+        when(taskRepository.markLate(LocalDate.now(), 100))
+                .thenReturn(ids(100), ids(100), ids(37));
+
+        int marked = scheduler.markLateTasks();
+
+        assertEquals(237, marked);
+        verify(taskRepository, times(3)).markLate(LocalDate.now(), 100);
+        assertEquals(3, meterRegistry.get("tasks.late.chunk.rows").summary().count());
+        assertEquals(237.0, meterRegistry.get("tasks.late.chunk.rows").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("tasks.late.duration").timer().count());
+    }
 
-        verify(taskRepository, times(1))
-                .findByStatusInAndDueDateBefore(
-                        List.of(TaskStatus.TO_DO, TaskStatus.IN_PROGRESSO, TaskStatus.REVISION),
-                        today
-                );
+    @Test
+    @DisplayName("Deve parar após um único lote quando não há tarefas atrasadas")
+    void shouldDoNothingWhenNoOverdueTasks() {
+        acquireLock();
+        when(taskRepository.markLate(any(LocalDate.class), eq(100))).thenReturn(List.of());
 
-        verify(taskRepository, times(1))
-                .saveAll(overdueTasks);
+        assertEquals(0, scheduler.markLateTasks());
+        verify(taskRepository, times(1)).markLate(any(LocalDate.class), eq(100));
     }
 
     @Test
-    @DisplayName("Não deve salvar nada se não houver tarefas atrasadas")
-    void shouldDoNothingWhenNoOverdueTasks() {
+    @DisplayName("Não deve executar quando outro nó está com o lock")
+    void shouldSkipWhenLockIsHeldByAnotherNode() {
+        when(schedulerLock.runIfAcquired(eq(LateTaskScheduler.LOCK_NAME), any())).thenReturn(false);
 
-        LocalDate today = LocalDate.now();
+        assertEquals(0, scheduler.markLateTasks());
 
-        when(taskRepository.findByStatusInAndDueDateBefore(anyList(), eq(today)))
-                .thenReturn(List.of());
+        verify(taskRepository, never()).markLate(any(LocalDate.class), anyInt());
+        assertEquals(1.0, meterRegistry.get("tasks.late.skipped").counter().count());
+    }
 
-        scheduler.markLateTasks();
+    private void acquireLock() {
+        when(schedulerLock.runIfAcquired(eq(LateTaskScheduler.LOCK_NAME), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
 
-        verify(taskRepository, times(1))
-                .findByStatusInAndDueDateBefore(anyList(), eq(today));
+    private static List<UUID> ids(int count) {
+        return Collections.nCopies(count, UUID.randomUUID());
+    }
 
-        verify(taskRepository, never()).saveAll(anyList());
+    @Test
+    @DisplayName("tasks.late.persist=false deve desligar o job que grava LATE")
+    void shouldNotRegisterSchedulerWhenPersistIsDisabled() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(LateTaskScheduler.class)
+                .withPropertyValues("tasks.late.persist=false")
+                .run(context -> assertTrue(context.getBeansOfType(LateTaskScheduler.class).isEmpty()));
     }
 }
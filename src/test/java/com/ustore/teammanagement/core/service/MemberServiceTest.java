@@ -8,6 +8,7 @@ import com.ustore.teammanagement.exceptions.ConflictException;
 import com.ustore.teammanagement.payload.dto.request.MemberRequest;
 import com.ustore.teammanagement.payload.dto.request.MemberUpdateRequest;
 import com.ustore.teammanagement.payload.dto.response.MemberResponse;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +49,9 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionRegistry tokenVersions;
+
     Member member1;
     Member member2;
     MemberRequest memberRequest;
@@ -245,16 +250,6 @@ class MemberServiceTest {
 
         MemberUpdateRequest updateRequest = mock(MemberUpdateRequest.class);
 
-        Authentication auth = mock(Authentication.class);
-        when(auth.getName()).thenReturn(admin.getEmail());
-
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(memberRepository.findByEmail(admin.getEmail()))
-                .thenReturn(Optional.of(admin));
-
         when(memberRepository.findById(targetId))
                 .thenReturn(Optional.of(targetMember));
 
@@ -263,7 +258,7 @@ class MemberServiceTest {
 
         doNothing().when(updateRequest).updateMember(any(Member.class), eq(updateRequest));
 
-        MemberResponse response = memberService.update(targetId, updateRequest);
+        MemberResponse response = memberService.update(targetId, updateRequest, admin);
 
         assertNotNull(response);
         assertEquals("Carlos", response.name());
@@ -278,9 +273,32 @@ class MemberServiceTest {
         assertEquals("carlos@teste.com", savedMember.getEmail());
 
         verify(updateRequest, times(1)).updateMember(targetMember, updateRequest);
-        verify(memberRepository, times(1)).findByEmail(admin.getEmail());
+        verify(memberRepository, never()).findByEmail(anyString());
         verify(memberRepository, times(1)).findById(targetId);
         verify(memberRepository, times(1)).save(any(Member.class));
+        verify(tokenVersions, never()).revoke(any(Member.class));
+    }
+
+    @Test
+    void shouldRevokeTokensWhenMemberIsRenamed() throws AccessDeniedException {
+        UUID targetId = UUID.randomUUID();
+
+        Member target = Member.builder()
+                .id(targetId)
+                .name("Carlos")
+                .email("carlos@teste.com")
+                .role(Role.MEMBER)
+                .build();
+
+        MemberUpdateRequest updateRequest = new MemberUpdateRequest("Carlos Silva", null, null, null, null, null, null);
+
+        when(memberRepository.findById(targetId)).thenReturn(Optional.of(target));
+        when(memberRepository.save(any(Member.class))).thenReturn(target);
+
+        memberService.update(targetId, updateRequest, target);
+
+        assertEquals("Carlos Silva", target.getName());
+        verify(tokenVersions).revoke(target);
     }
 
     @Test
@@ -303,28 +321,19 @@ class MemberServiceTest {
 
         MemberUpdateRequest updateRequest = mock(MemberUpdateRequest.class);
 
-        Authentication auth = mock(Authentication.class);
-        when(auth.getName()).thenReturn(memberLogado.getEmail());
-
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(memberRepository.findByEmail(memberLogado.getEmail()))
-                .thenReturn(Optional.of(memberLogado));
-
         when(memberRepository.findById(targetId))
                 .thenReturn(Optional.of(targetMember));
 
         AccessDeniedException exception = assertThrows(
                 AccessDeniedException.class,
-                () -> memberService.update(targetId, updateRequest)
+                () -> memberService.update(targetId, updateRequest, memberLogado)
         );
 
         assertEquals("Acesso negado: você não tem permissão para atualizar este membro.", exception.getMessage());
 
         verify(memberRepository, never()).save(any(Member.class));
         verify(updateRequest, never()).updateMember(any(Member.class), any(MemberUpdateRequest.class));
+        verify(tokenVersions, never()).revoke(any(Member.class));
     }
 
     @Test
@@ -343,29 +352,16 @@ class MemberServiceTest {
         target.setId(targetId);
         target.setStatus(MemberStatus.ACTIVE);
 
-        Authentication adminAuth = mock(Authentication.class);
-        when(adminAuth.getName()).thenReturn(admin.getEmail());
-
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(adminAuth);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(memberRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
         when(memberRepository.findById(targetId)).thenReturn(Optional.of(target));
 
-        assertDoesNotThrow(() -> memberService.inactivateMember(targetId));
+        assertDoesNotThrow(() -> memberService.inactivateMember(targetId, admin));
         assertEquals(MemberStatus.INACTIVE, target.getStatus());
 
-        Authentication managerAuth = mock(Authentication.class);
-        when(managerAuth.getName()).thenReturn(manager.getEmail());
-        when(securityContext.getAuthentication()).thenReturn(managerAuth);
-
-        when(memberRepository.findByEmail(manager.getEmail())).thenReturn(Optional.of(manager));
-        when(memberRepository.findById(targetId)).thenReturn(Optional.of(target));
-
         target.setStatus(MemberStatus.ACTIVE);
-        assertDoesNotThrow(() -> memberService.inactivateMember(targetId));
+        assertDoesNotThrow(() -> memberService.inactivateMember(targetId, manager));
         assertEquals(MemberStatus.INACTIVE, target.getStatus());
+
+        verify(tokenVersions, times(2)).revoke(target);
     }
 
     @Test
@@ -381,17 +377,9 @@ class MemberServiceTest {
         target.setId(targetId);
         target.setStatus(MemberStatus.ACTIVE);
 
-        Authentication auth = mock(Authentication.class);
-        when(auth.getName()).thenReturn(memberLogado.getEmail());
-
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(memberRepository.findByEmail(memberLogado.getEmail())).thenReturn(Optional.of(memberLogado));
         when(memberRepository.findById(targetId)).thenReturn(Optional.of(target));
 
-        assertThrows(AccessDeniedException.class, () -> memberService.inactivateMember(targetId));
+        assertThrows(AccessDeniedException.class, () -> memberService.inactivateMember(targetId, memberLogado));
 
         verify(memberRepository, never()).save(any(Member.class));
     }
@@ -7,6 +7,8 @@ import com.ustore.teammanagement.core.repository.PasswordRecovery;
 import com.ustore.teammanagement.payload.dto.request.ForgotPasswordRequest;
 import com.ustore.teammanagement.payload.dto.request.ResetPasswordRequest;
 import com.ustore.teammanagement.payload.dto.response.RecoveryTokenResponse;
+import com.ustore.teammanagement.security.TokenDigest;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,8 @@ import java.util.UUID;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,9 @@ class PasswordRecoveryServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionRegistry tokenVersions;
+
     @InjectMocks
     private PasswordRecoveryService recoveryService;
 
@@ -70,7 +77,8 @@ class PasswordRecoveryServiceTest {
         PasswordRecoveryToken savedToken = tokenCaptor.getValue();
 
         assertEquals(member, savedToken.getMember());
-        assertEquals(response.recoveryToken(), savedToken.getToken());
+        assertNotEquals(response.recoveryToken(), savedToken.getToken(), "O token não deve ser salvo em texto puro");
+        assertEquals(TokenDigest.sha256(response.recoveryToken()), savedToken.getToken());
 
         assertFalse(savedToken.isUsed(), "Token não deve estar marcado como usado");
         assertNotNull(savedToken.getExpiration());
@@ -98,77 +106,39 @@ class PasswordRecoveryServiceTest {
     }
 
     @Test
-    @DisplayName("Deve redefinir a senha com um token válido e não expirado")
+    @DisplayName("Deve redefinir a senha consumindo o token e gravando a senha sem recarregar o membro")
     void shouldResetPasswordWithValidToken() {
         ResetPasswordRequest request =
                 new ResetPasswordRequest("valid-token", "NewPassword123!");
+        UUID memberId = UUID.randomUUID();
 
-        Member member = new Member();
-        member.setId(UUID.randomUUID());
-
-        PasswordRecoveryToken token = new PasswordRecoveryToken();
-        token.setToken("valid-token");
-        token.setUsed(false);
-        token.setMember(member);
-        token.setExpiration(LocalDateTime.now().plusMinutes(10));
-
-        when(tokenRepository.findByTokenAndUsedFalse("valid-token"))
-                .thenReturn(Optional.of(token));
+        when(tokenRepository.consume(eq(TokenDigest.sha256("valid-token")), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(memberId));
 
         when(passwordEncoder.encode("NewPassword123!"))
                 .thenReturn("encoded-password");
 
         recoveryService.resetPassword(request);
 
-        verify(passwordEncoder).encode("NewPassword123!");
-        assertEquals("encoded-password", member.getPassword());
-
-        verify(memberRepository).save(member);
-
-        assertTrue(token.isUsed());
-        verify(tokenRepository).save(token);
-    }
-
-    @Test
-    @DisplayName("Deve lançar exceção quando o token for inválido ou já usado")
-    void shouldThrowWhenTokenNotFoundOrUsed() {
-
-        ResetPasswordRequest request =
-                new ResetPasswordRequest("invalid-token", "NewPassword123!");
-
-        when(tokenRepository.findByTokenAndUsedFalse("invalid-token"))
-                .thenReturn(Optional.empty());
-
-        assertThrows(IllegalArgumentException.class,
-                () -> recoveryService.resetPassword(request));
-
+        verify(memberRepository).updatePasswordAndRevokeTokens(memberId, "encoded-password");
+        verify(tokenVersions).forget(memberId);
         verify(memberRepository, never()).save(any());
         verify(tokenRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando o token estiver expirado")
-    void shouldThrowWhenTokenExpired() {
+    @DisplayName("Deve lançar exceção quando o token for inválido, já usado ou expirado")
+    void shouldThrowWhenTokenNotConsumed() {
 
         ResetPasswordRequest request =
-                new ResetPasswordRequest("expired-token", "NewPassword123!");
-
-        Member member = new Member();
-        member.setId(UUID.randomUUID());
-
-        PasswordRecoveryToken token = new PasswordRecoveryToken();
-        token.setToken("expired-token");
-        token.setUsed(false);
-        token.setMember(member);
-        token.setExpiration(LocalDateTime.now().minusMinutes(5)); // EXPIROU
+                new ResetPasswordRequest("invalid-token", "NewPassword123!");
 
-        when(tokenRepository.findByTokenAndUsedFalse("expired-token"))
-                .thenReturn(Optional.of(token));
+        when(tokenRepository.consume(eq(TokenDigest.sha256("invalid-token")), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
                 () -> recoveryService.resetPassword(request));
 
-        verify(memberRepository, never()).save(any());
-        verify(tokenRepository, never()).save(any());
+        verifyNoInteractions(memberRepository, passwordEncoder, tokenVersions);
     }
 }
@@ -0,0 +1,47 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.repository.PasswordRecovery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecoveryTokenPurgeSchedulerTest {
+
+    @Mock
+    private PasswordRecovery tokenRepository;
+
+    @Test
+    @DisplayName("Deve apagar tokens usados ou expirados em lotes até esvaziar")
+    void shouldPurgeInChunks() {
+        RecoveryTokenPurgeScheduler scheduler = new RecoveryTokenPurgeScheduler(tokenRepository, 100);
+
+        when(tokenRepository.deleteUsedOrExpired(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 37);
+
+        int deleted = scheduler.purgeUsedAndExpiredTokens();
+
+        assertEquals(237, deleted);
+        verify(tokenRepository, times(3)).deleteUsedOrExpired(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("Deve parar após um único lote quando não há nada para apagar")
+    void shouldStopWhenNothingToPurge() {
+        RecoveryTokenPurgeScheduler scheduler = new RecoveryTokenPurgeScheduler(tokenRepository, 100);
+
+        when(tokenRepository.deleteUsedOrExpired(any(LocalDateTime.class), eq(100))).thenReturn(0);
+
+        assertEquals(0, scheduler.purgeUsedAndExpiredTokens());
+        verify(tokenRepository, times(1)).deleteUsedOrExpired(any(LocalDateTime.class), eq(100));
+    }
+}
@@ -0,0 +1,128 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.RefreshTokenFamily;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.repository.RefreshTokenFamilyRepository;
+import com.ustore.teammanagement.exceptions.InvalidTokenException;
+import com.ustore.teammanagement.payload.dto.response.LoginResponse;
+import com.ustore.teammanagement.security.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenFamilyRepository familyRepository;
+
+    @Mock
+    private TokenVersionRegistry tokenVersions;
+
+    private TokenService tokenService;
+    private RefreshTokenService refreshTokenService;
+    private Member member;
+    private UUID familyId;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "securityJwt", "super-secret-key-123");
+
+        refreshTokenService = new RefreshTokenService(familyRepository, tokenService, tokenVersions, 168);
+
+        member = Member.builder()
+                .id(UUID.randomUUID())
+                .name("User Test")
+                .email("user@example.com")
+                .role(Role.MEMBER)
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        familyId = UUID.randomUUID();
+        lenient().when(familyRepository.save(any(RefreshTokenFamily.class))).thenAnswer(invocation -> {
+            RefreshTokenFamily family = invocation.getArgument(0);
+            family.setId(familyId);
+            return family;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve girar o refresh token com um único UPDATE e sem consultar o membro")
+    void shouldRotateRefreshToken() {
+        String refreshToken = refreshTokenService.issue(member);
+        UUID firstTokenId = tokenService.refreshTokenId(tokenService.verifyRefreshToken(refreshToken));
+
+        when(tokenVersions.isCurrent(member.getId(), 0)).thenReturn(true);
+        when(familyRepository.rotate(eq(familyId), eq(firstTokenId), any(UUID.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        LoginResponse response = refreshTokenService.refresh(refreshToken);
+
+        assertEquals(member.getId(), tokenService.toPrincipal(tokenService.verifyAccessToken(response.accessToken())).getId());
+
+        var rotated = tokenService.verifyRefreshToken(response.refreshToken());
+        assertEquals(familyId, tokenService.refreshFamilyId(rotated));
+        assertNotEquals(firstTokenId, tokenService.refreshTokenId(rotated));
+
+        ArgumentCaptor<UUID> next = ArgumentCaptor.forClass(UUID.class);
+        verify(familyRepository).rotate(eq(familyId), eq(firstTokenId), next.capture(), any(LocalDateTime.class));
+        assertEquals(next.getValue(), tokenService.refreshTokenId(rotated));
+        verify(familyRepository, never()).revoke(any());
+    }
+
+    @Test
+    @DisplayName("Reutilizar um refresh token já girado deve revogar a família inteira")
+    void shouldRevokeFamilyOnReuse() {
+        String refreshToken = refreshTokenService.issue(member);
+
+        when(tokenVersions.isCurrent(member.getId(), 0)).thenReturn(true);
+        when(familyRepository.rotate(eq(familyId), any(UUID.class), any(UUID.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh(refreshToken));
+        verify(familyRepository).revoke(familyId);
+
+        // Família já conhecida como revogada: recusada sem ir ao banco.
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh(refreshToken));
+        verify(familyRepository, times(1)).rotate(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família quando a versão de token do membro mudou")
+    void shouldRevokeFamilyWhenTokenVersionChanged() {
+        String refreshToken = refreshTokenService.issue(member);
+
+        when(tokenVersions.isCurrent(member.getId(), 0)).thenReturn(false);
+
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh(refreshToken));
+
+        verify(familyRepository).revoke(familyId);
+        verify(familyRepository, never()).rotate(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar access token ou token inválido no refresh")
+    void shouldRejectInvalidToken() {
+        String accessToken = tokenService.generateToken(member);
+
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh(accessToken));
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.refresh("invalid-token"));
+
+        verify(familyRepository, never()).rotate(any(), any(), any(), any());
+    }
+}
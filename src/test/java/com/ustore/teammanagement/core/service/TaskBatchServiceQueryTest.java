@@ -0,0 +1,341 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Activity;
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.ActivityAction;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.payload.dto.request.TaskBulkUpdateRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskFilterRequest;
+import com.ustore.teammanagement.payload.dto.request.TaskRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchItem;
+import com.ustore.teammanagement.payload.dto.response.TaskBatchResponse;
+import com.ustore.teammanagement.payload.dto.response.TaskBulkUpdateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "tasks.bulk.chunk-size=2")
+@ActiveProfiles("test")
+@Import({TaskBatchService.class, LateTaskPolicy.class, DueDateScheduler.class, SchedulerLock.class,
+        SimpleMeterRegistry.class, LocalValidatorFactoryBean.class})
+class TaskBatchServiceQueryTest {
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private DueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int afterCommitRan;
+    private Member admin;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        admin = persistMember("Admin", Role.ADMIN, MemberStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Lote deve validar responsáveis numa consulta e inserir em batches JDBC")
+    void shouldInsertBatchWithFixedNumberOfStatements() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Member bruno = persistMember("Bruno", Role.MEMBER, MemberStatus.ACTIVE);
+
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            requests.add(request("Tarefa " + i, i % 2 == 0 ? ana.getId() : bruno.getId(), List.of("backend", "api")));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TaskBatchResponse response = taskBatchService.createTasks(requests, admin);
+
+        assertEquals(60, response.created());
+        assertEquals(0, response.failed());
+        assertEquals(60, statistics.getEntityStatistics(Task.class.getName()).getInsertCount());
+        assertEquals(60, statistics.getEntityStatistics(Activity.class.getName()).getInsertCount());
+        // IN dos responsáveis + batch de task + batch de task_tags + batch de activity
+        assertEquals(4, statistics.getPrepareStatementCount());
+
+        entityManager.clear();
+        Task saved = entityManager.find(Task.class, response.items().get(0).id());
+        assertEquals(ana.getId(), saved.getAssignee().getId());
+        assertEquals(List.of("backend", "api"), saved.getTags());
+    }
+
+    @Test
+    @DisplayName("Lote deve criar os itens válidos e devolver os erros de cada item rejeitado")
+    void shouldReturnPerItemResults() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Member inativo = persistMember("Inativo", Role.MEMBER, MemberStatus.INACTIVE);
+
+        TaskBatchResponse response = taskBatchService.createTasks(List.of(
+                request("Válida", ana.getId(), List.of()),
+                request("X", ana.getId(), List.of()),
+                request("Sem responsável", UUID.randomUUID(), List.of()),
+                request("Responsável inativo", inativo.getId(), List.of())
+        ), admin);
+
+        assertEquals(1, response.created());
+        assertEquals(3, response.failed());
+
+        List<TaskBatchItem> items = response.items();
+        assertNotNull(items.get(0).id());
+        assertTrue(items.get(0).errors().isEmpty());
+        assertEquals(List.of("Título deve ter entre 2 e 200 caracteres"), items.get(1).errors());
+        assertEquals(List.of("Responsável não encontrado"), items.get(2).errors());
+        assertEquals(List.of("Tarefa não pode ser atribuída a um membro desativado."), items.get(3).errors());
+        assertEquals(List.of(0, 1, 2, 3), items.stream().map(TaskBatchItem::index).toList());
+    }
+
+    @Test
+    @DisplayName("Apenas ADMIN e MANAGER podem criar tarefas em lote")
+    void shouldRejectMember() {
+        Member member = persistMember("Membro", Role.MEMBER, MemberStatus.ACTIVE);
+        List<TaskRequest> requests = List.of(request("Tarefa", member.getId(), List.of()));
+
+        assertThrows(AccessDeniedException.class, () -> taskBatchService.createTasks(requests, member));
+    }
+
+    @Test
+    @DisplayName("Atualização em lote por filtro deve rodar em blocos sem carregar as tarefas")
+    void shouldUpdateByFilterInChunks() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Member bruno = persistMember("Bruno", Role.MEMBER, MemberStatus.ACTIVE);
+        List<Task> anaTasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            anaTasks.add(persistTask("Ana " + i, ana, TaskStatus.TO_DO));
+        }
+        Task other = persistTask("Bruno", bruno, TaskStatus.TO_DO);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TaskBulkUpdateResponse response = taskBatchService.updateTasks(new TaskBulkUpdateRequest(null,
+                filterByAssignee(ana.getId()), TaskStatus.REVISION, Priority.HIGH, null), admin);
+
+        assertEquals(new TaskBulkUpdateResponse(5, 5, 0), response);
+        assertEquals(0, statistics.getEntityLoadCount());
+        // 3 blocos de ids (2 + 2 + 1) e, por bloco, a consulta das tarefas
+        // afetadas antes do UPDATE
+        assertEquals(6, statistics.getQueryExecutionCount());
+        assertEquals(5, statistics.getEntityStatistics(Activity.class.getName()).getInsertCount());
+
+        for (Task task : anaTasks) {
+            Task reloaded = entityManager.find(Task.class, task.getId());
+            assertEquals(TaskStatus.REVISION, reloaded.getStatus());
+            assertEquals(Priority.HIGH, reloaded.getPriority());
+            assertTrue(reloaded.getUpdatedAt().isAfter(task.getUpdatedAt()));
+        }
+        assertEquals(TaskStatus.TO_DO, entityManager.find(Task.class, other.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Reatribuição em lote deve mover as tarefas de um membro para outro")
+    void shouldReassignAllTasksFromMember() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Member bruno = persistMember("Bruno", Role.MEMBER, MemberStatus.ACTIVE);
+        Task first = persistTask("Primeira", ana, TaskStatus.TO_DO);
+        Task second = persistTask("Segunda", ana, TaskStatus.IN_PROGRESSO);
+        entityManager.flush();
+
+        TaskBulkUpdateResponse response = taskBatchService.updateTasks(new TaskBulkUpdateRequest(null,
+                filterByAssignee(ana.getId()), null, null, bruno.getId()), admin);
+
+        assertEquals(2, response.updated());
+        entityManager.clear();
+        assertEquals(bruno.getId(), entityManager.find(Task.class, first.getId()).getAssignee().getId());
+        assertEquals(bruno.getId(), entityManager.find(Task.class, second.getId()).getAssignee().getId());
+    }
+
+    @Test
+    @DisplayName("Atualização por ids deve manter completedAt e pular tarefas de membros desativados")
+    void shouldKeepCompletedAtAndSkipInactiveAssignees() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Member inativo = persistMember("Inativo", Role.MEMBER, MemberStatus.INACTIVE);
+        Task active = persistTask("Ativa", ana, TaskStatus.IN_PROGRESSO);
+        Task blocked = persistTask("Bloqueada", inativo, TaskStatus.IN_PROGRESSO);
+        entityManager.flush();
+
+        TaskBulkUpdateResponse completed = taskBatchService.updateTasks(new TaskBulkUpdateRequest(
+                List.of(active.getId(), blocked.getId(), UUID.randomUUID()), null, TaskStatus.COMPLETED, null, null), admin);
+
+        assertEquals(new TaskBulkUpdateResponse(3, 1, 2), completed);
+        entityManager.clear();
+        OffsetDateTime completedAt = entityManager.find(Task.class, active.getId()).getCompletedAt();
+        assertNotNull(completedAt);
+        assertEquals(TaskStatus.IN_PROGRESSO, entityManager.find(Task.class, blocked.getId()).getStatus());
+
+        taskBatchService.updateTasks(new TaskBulkUpdateRequest(
+                List.of(active.getId()), null, TaskStatus.REVISION, null, null), admin);
+
+        entityManager.clear();
+        assertNull(entityManager.find(Task.class, active.getId()).getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("Atualização em lote deve registrar uma atividade por tarefa alterada")
+    void shouldRecordOneActivityPerUpdatedTask() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Member inativo = persistMember("Inativo", Role.MEMBER, MemberStatus.INACTIVE);
+        Task open = persistTask("Aberta", ana, TaskStatus.IN_PROGRESSO);
+        Task done = persistTask("Concluída", ana, TaskStatus.COMPLETED);
+        Task blocked = persistTask("Bloqueada", inativo, TaskStatus.IN_PROGRESSO);
+        entityManager.flush();
+
+        taskBatchService.updateTasks(new TaskBulkUpdateRequest(
+                List.of(open.getId(), done.getId(), blocked.getId()), null, TaskStatus.COMPLETED, null, null), admin);
+
+        List<Activity> activities = entityManager.getEntityManager()
+                .createQuery("SELECT a FROM Activity a ORDER BY a.taskTitle", Activity.class)
+                .getResultList();
+        assertEquals(List.of("Aberta", "Concluída"), activities.stream().map(Activity::getTaskTitle).toList());
+        assertEquals(List.of(ActivityAction.COMPLETED, ActivityAction.UPDATED),
+                activities.stream().map(Activity::getAction).toList());
+        assertTrue(activities.stream().allMatch(activity -> admin.getId().equals(activity.getActorId())
+                && "Sprint".equals(activity.getProject())));
+    }
+
+    @Test
+    @DisplayName("Não deve reatribuir em lote para membro desativado")
+    void shouldRejectInactiveNewAssignee() {
+        Member inativo = persistMember("Inativo", Role.MEMBER, MemberStatus.INACTIVE);
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest(List.of(UUID.randomUUID()), null, null, null, inativo.getId());
+
+        assertThrows(IllegalStateException.class, () -> taskBatchService.updateTasks(request, admin));
+    }
+
+    @Test
+    @DisplayName("Filtro sem critério efetivo não deve alterar nenhuma tarefa")
+    void shouldRejectFilterWithoutEffectiveCriteria() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        Task first = persistTask("Primeira", ana, TaskStatus.TO_DO);
+        Task second = persistTask("Segunda", ana, TaskStatus.IN_PROGRESSO);
+        entityManager.flush();
+
+        List<TaskFilterRequest> filters = List.of(
+                new TaskFilterRequest(null, null, null, null, null, null, null, null, null, false),
+                new TaskFilterRequest(" ", " ", "", null, "  ", null, null, null, null, null));
+        for (TaskFilterRequest filter : filters) {
+            TaskBulkUpdateRequest request = new TaskBulkUpdateRequest(null, filter, TaskStatus.COMPLETED, null, null);
+
+            assertFalse(validator.validate(request).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> taskBatchService.updateTasks(request, admin));
+        }
+
+        entityManager.clear();
+        assertEquals(TaskStatus.TO_DO, entityManager.find(Task.class, first.getId()).getStatus());
+        assertEquals(TaskStatus.IN_PROGRESSO, entityManager.find(Task.class, second.getId()).getStatus());
+        assertEquals(0L, entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(a) FROM Activity a", Long.class).getSingleResult());
+    }
+
+    @Test
+    @DisplayName("Lote deve atualizar a roda de prazos só depois do commit")
+    void shouldTrackDueDatesAfterCommit() {
+        Member ana = persistMember("Ana", Role.MEMBER, MemberStatus.ACTIVE);
+        int before = dueDateScheduler.size();
+
+        TaskBatchResponse created = taskBatchService.createTasks(List.of(
+                new TaskRequest("Vence amanhã", "Descrição", TaskStatus.TO_DO, Priority.MEDIUM,
+                        LocalDate.now().plusDays(1), "Kickoff", List.of(), ana.getId()),
+                request("Vence depois do horizonte", ana.getId(), List.of())), admin);
+        assertEquals(before, dueDateScheduler.size());
+
+        runAfterCommit();
+        // LATE + lembrete da tarefa que vence amanhã
+        assertEquals(before + 2, dueDateScheduler.size());
+
+        taskBatchService.updateTasks(new TaskBulkUpdateRequest(
+                List.of(created.items().get(0).id()), null, TaskStatus.COMPLETED, null, null), admin);
+        assertEquals(before + 2, dueDateScheduler.size());
+
+        runAfterCommit();
+        assertEquals(before, dueDateScheduler.size());
+    }
+
+    // O @DataJpaTest desfaz a transação do teste; roda aqui, uma vez, as ações
+    // que o serviço deixou para depois do commit.
+    private void runAfterCommit() {
+        List<TransactionSynchronization> pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(synchronization -> synchronization.getClass().getEnclosingClass() == AfterCommit.class)
+                .toList();
+        pending.subList(afterCommitRan, pending.size()).forEach(TransactionSynchronization::afterCommit);
+        afterCommitRan = pending.size();
+    }
+
+    private TaskFilterRequest filterByAssignee(UUID assigneeId) {
+        return new TaskFilterRequest(null, null, null, assigneeId, null, null, null, null, null, null);
+    }
+
+    private Task persistTask(String title, Member assignee, TaskStatus status) {
+        Task task = Task.builder()
+                .title(title)
+                .description("Descrição")
+                .project("Sprint")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(LocalDate.now().plusDays(7))
+                .tags(new ArrayList<>())
+                .assignee(assignee)
+                .createdBy(admin)
+                .build();
+        return entityManager.persist(task);
+    }
+
+    private TaskRequest request(String title, UUID assigneeId, List<String> tags) {
+        return new TaskRequest(title, "Descrição", TaskStatus.TO_DO, Priority.MEDIUM,
+                LocalDate.now().plusDays(7), "Kickoff", tags, assigneeId);
+    }
+
+    private Member persistMember(String name, Role role, MemberStatus status) {
+        Member member = Member.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@test.com")
+                .password("hash")
+                .role(role)
+                .department("TI")
+                .status(status)
+                .build();
+        return entityManager.persist(member);
+    }
+}
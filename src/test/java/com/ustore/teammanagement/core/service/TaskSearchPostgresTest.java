@@ -0,0 +1,129 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.FilterMatch;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.payload.dto.request.TaskRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+// Busca de GET /tasks?q= contra o Postgres embutido: search_vector é mantida
+// pelos triggers das migrations V11 e V16.
+@DataJpaTest(properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=none", "tasks.due.enabled=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskService.class, LateTaskPolicy.class, DueDateScheduler.class, SchedulerLock.class, SimpleMeterRegistry.class})
+class TaskSearchPostgresTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Member ana;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        // initdb se recusa a rodar como root (ex.: alguns containers de build).
+        assumeFalse("root".equals(System.getProperty("user.name")), "Postgres não roda como root");
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        ana = entityManager.persist(Member.builder()
+                .name("Ana")
+                .email("ana@test.com")
+                .password("hash")
+                .role(Role.MANAGER)
+                .department("TI")
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Busca deve casar título, tags e descrição, ordenada pela relevância")
+    void shouldSearchTitleTagsAndDescriptionByRelevance() {
+        create("Revisar contrato", "Enviar para o jurídico", List.of("financeiro"));
+        create("Planejar sprint", "Incluir o contrato novo", List.of());
+        create("Atualizar planilha", "Conferir valores", List.of("contrato"));
+        create("Corrigir login", "Sessão expira cedo", List.of("bug"));
+        entityManager.flush();
+
+        List<String> titles = search("contratos");
+
+        assertEquals(List.of("Revisar contrato", "Atualizar planilha", "Planejar sprint"), titles);
+    }
+
+    @Test
+    @DisplayName("Alterar as tags deve atualizar o resultado da busca")
+    void shouldFollowTagChanges() {
+        TaskResponse created = create("Atualizar planilha", "Conferir valores", List.of("urgente", "financeiro"));
+        entityManager.flush();
+        assertEquals(List.of("Atualizar planilha"), search("financeiro"));
+
+        Task task = entityManager.find(Task.class, created.id());
+        task.setTags(new ArrayList<>(List.of("urgente", "auditoria")));
+        entityManager.flush();
+
+        assertEquals(List.of(), search("financeiro"));
+        assertEquals(List.of("Atualizar planilha"), search("auditoria"));
+        assertEquals(List.of("Atualizar planilha"), search("urgente"));
+    }
+
+    private TaskResponse create(String title, String description, List<String> tags) {
+        return taskService.createTask(new TaskRequest(title, description, TaskStatus.TO_DO, Priority.MEDIUM,
+                LocalDate.now().plusDays(7), "Sprint", tags, ana.getId()), ana);
+    }
+
+    private List<String> search(String q) {
+        return taskService.filter(null, null, null, null, null, null, null, null, null, q, FilterMatch.ALL,
+                        PageRequest.of(0, 10))
+                .map(TaskResponse::title)
+                .getContent();
+    }
+}
@@ -0,0 +1,215 @@
+package com.ustore.teammanagement.core.service;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.FilterMatch;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Priority;
+import com.ustore.teammanagement.core.enums.Role;
+import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.exceptions.InvalidCursorException;
+import com.ustore.teammanagement.payload.dto.request.TaskUpdateRequest;
+import com.ustore.teammanagement.payload.dto.response.TaskCursorPage;
+import com.ustore.teammanagement.payload.dto.response.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskService.class, LateTaskPolicy.class, DueDateScheduler.class, SchedulerLock.class, SimpleMeterRegistry.class})
+class TaskServiceQueryTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Filtro deve usar número fixo de consultas, independente do tamanho da página")
+    void filterShouldNotTriggerNPlusOne() {
+        Member ana = persistMember("Ana");
+        Member bruno = persistMember("Bruno");
+        for (int i = 0; i < 12; i++) {
+            persistTask("Tarefa " + i, i % 2 == 0 ? ana : bruno, bruno, List.of("api", "tag-" + i));
+        }
+        persistTask("Tarefa sem responsável", null, ana, List.of());
+
+        Page<TaskResponse> small = measure(PageRequest.of(0, 3, Sort.by("title")));
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        Page<TaskResponse> large = measure(PageRequest.of(0, 10, Sort.by("title")));
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // Página (com responsável e criador), total e tags: três consultas.
+        assertEquals(3, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+
+        assertEquals(13, large.getTotalElements());
+        TaskResponse first = small.getContent().get(0);
+        assertEquals("Tarefa 0", first.title());
+        assertEquals("Ana", first.assignee().name());
+        assertEquals("Bruno", first.createdBy().name());
+        assertEquals(List.of("api", "tag-0"), first.tags().stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Filtros devem ser combinados com E por padrão e com OU apenas em match=ANY")
+    void filtersShouldUseAndSemanticsByDefault() {
+        Member ana = persistMember("Ana");
+        Member bruno = persistMember("Bruno");
+        Task lateHigh = persistTask("Atrasada alta", ana, ana, List.of());
+        lateHigh.setStatus(TaskStatus.LATE);
+        lateHigh.setPriority(Priority.HIGH);
+        Task lateLow = persistTask("Atrasada baixa", bruno, ana, List.of());
+        lateLow.setStatus(TaskStatus.LATE);
+        lateLow.setPriority(Priority.LOW);
+        Task todoHigh = persistTask("A fazer alta", ana, ana, List.of());
+        todoHigh.setPriority(Priority.HIGH);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<TaskResponse> all = taskService.filter(null, null, TaskStatus.LATE, Priority.HIGH, "ana", null,
+                null, null, null, null, FilterMatch.ALL, PageRequest.of(0, 10));
+        assertEquals(List.of("Atrasada alta"), all.map(TaskResponse::title).getContent());
+
+        Page<TaskResponse> any = taskService.filter(null, null, TaskStatus.LATE, Priority.HIGH, null, null,
+                null, null, null, null, FilterMatch.ANY, PageRequest.of(0, 10, Sort.by("title")));
+        assertEquals(3, any.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Tarefa sem responsável deve ser retornada sem erro")
+    void filterShouldHandleTaskWithoutAssignee() {
+        Member ana = persistMember("Ana");
+        persistTask("Sem responsável", null, ana, List.of());
+
+        Page<TaskResponse> page = measure(PageRequest.of(0, 10));
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getContent().get(0).assignee());
+        assertEquals("Ana", page.getContent().get(0).createdBy().name());
+        assertTrue(page.getContent().get(0).tags().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Modo cursor deve percorrer todas as tarefas sem repetir e sem consulta de contagem")
+    void scrollShouldWalkAllTasksWithoutCount() {
+        Member ana = persistMember("Ana");
+        for (int i = 0; i < 7; i++) {
+            persistTask("Tarefa " + i, ana, ana, List.of("tag-" + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            statistics.clear();
+            TaskCursorPage page = taskService.scroll(null, null, null, null, null, null, null, null, null,
+                    null, FilterMatch.ALL, cursor, 3, Sort.Direction.DESC);
+            entityManager.clear();
+
+            // Página (com membros) e tags; nenhuma contagem.
+            assertEquals(2, statistics.getPrepareStatementCount());
+            page.content().forEach(task -> seen.add(task.id()));
+            assertEquals(page.hasNext(), page.nextCursor() != null);
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(7, seen.size());
+        assertEquals(7, seen.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Cursor adulterado deve ser rejeitado")
+    void scrollShouldRejectInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> taskService.scroll(null, null, null, null, null, null,
+                null, null, null, null, FilterMatch.ALL, "nao-e-um-cursor", 10, Sort.Direction.DESC));
+    }
+
+    @Test
+    @DisplayName("Reatribuir tarefa deve trocar o responsável sem alterar o membro anterior")
+    void updateShouldReassignWithoutTouchingPreviousAssignee() {
+        Member ana = persistMember("Ana");
+        Member bruno = persistMember("Bruno");
+        Task task = persistTask("Tarefa", ana, ana, List.of());
+        entityManager.flush();
+
+        TaskResponse response = taskService.updateTask(task.getId(),
+                new TaskUpdateRequest(null, null, null, null, null, null, null, bruno.getId()), ana);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals("Bruno", response.assignee().name());
+        assertEquals(bruno.getId(), entityManager.find(Task.class, task.getId()).getAssignee().getId());
+        assertEquals("Ana", entityManager.find(Member.class, ana.getId()).getName());
+    }
+
+    private Page<TaskResponse> measure(Pageable pageable) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return taskService.filter(null, null, null, null, null, null, null, null, null, null, FilterMatch.ALL, pageable);
+    }
+
+    private Member persistMember(String name) {
+        Member member = Member.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@test.com")
+                .password("hash")
+                .role(Role.MEMBER)
+                .department("TI")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        return entityManager.persist(member);
+    }
+
+    private Task persistTask(String title, Member assignee, Member createdBy, List<String> tags) {
+        Task task = Task.builder()
+                .title(title)
+                .project("WebApp")
+                .status(TaskStatus.TO_DO)
+                .priority(Priority.MEDIUM)
+                .dueDate(LocalDate.now().plusDays(7))
+                .tags(new ArrayList<>(tags))
+                .assignee(assignee)
+                .createdBy(createdBy)
+                .build();
+        return entityManager.persist(task);
+    }
+}
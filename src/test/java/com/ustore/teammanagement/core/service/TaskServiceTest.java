@@ -1,13 +1,17 @@
 package com.ustore.teammanagement.core.service;
 
+import com.ustore.teammanagement.core.entity.Activity;
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.entity.Task;
+import com.ustore.teammanagement.core.enums.FilterMatch;
 import com.ustore.teammanagement.core.enums.MemberStatus;
 import com.ustore.teammanagement.core.enums.Priority;
 import com.ustore.teammanagement.core.enums.Role;
 import com.ustore.teammanagement.core.enums.TaskStatus;
+import com.ustore.teammanagement.core.repository.ActivityRepository;
 import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.core.repository.TaskRepository;
+import com.ustore.teammanagement.core.repository.projection.TaskTag;
 import com.ustore.teammanagement.exceptions.ResourceNotFoundException;
 import com.ustore.teammanagement.payload.dto.request.TaskRequest;
 import com.ustore.teammanagement.payload.dto.response.TaskResponse;
@@ -17,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -26,9 +31,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -52,21 +54,20 @@ class TaskServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Spy
+    private LateTaskPolicy lateTaskPolicy = new LateTaskPolicy(false);
+
     @Mock
-    private Authentication authentication;
+    private DueDateScheduler dueDateScheduler;
 
     @Mock
-    private SecurityContext securityContext;
+    private ActivityRepository activityRepository;
 
     private Member memberLogado;
     private Member assignee;
 
     @BeforeEach
     void setup() {
-
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-
         memberLogado = new Member();
         memberLogado.setId(UUID.randomUUID());
         memberLogado.setEmail("admin@example.com");
@@ -97,10 +98,6 @@ class TaskServiceTest {
 
         TaskRequest request = buildRequest();
 
-        when(authentication.getName()).thenReturn(memberLogado.getEmail());
-        when(memberRepository.findByEmail(memberLogado.getEmail()))
-                .thenReturn(Optional.of(memberLogado));
-
         when(memberRepository.findById(assignee.getId()))
                 .thenReturn(Optional.of(assignee));
 
@@ -111,12 +108,16 @@ class TaskServiceTest {
 
         when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
 
-        TaskResponse response = taskService.createTask(request);
+        TaskResponse response = taskService.createTask(request, memberLogado);
 
         assertNotNull(response);
         assertEquals("Criar API", response.title());
         assertEquals(TaskStatus.TO_DO, response.status());
         assertEquals("WebApp", response.project());
+
+        verify(memberRepository, never()).findByEmail(anyString());
+        verify(dueDateScheduler).track(savedTask);
+        verify(activityRepository).save(any(Activity.class));
     }
 
     @Test
@@ -125,43 +126,22 @@ class TaskServiceTest {
 
         memberLogado.setRole(Role.MEMBER);
 
-        when(authentication.getName()).thenReturn(memberLogado.getEmail());
-        when(memberRepository.findByEmail(memberLogado.getEmail()))
-                .thenReturn(Optional.of(memberLogado));
-
-        TaskRequest request = buildRequest();
-
-        assertThrows(AccessDeniedException.class, () -> taskService.createTask(request));
-    }
-
-
-    @Test
-    @DisplayName("Deve lançar erro quando o usuário logado não existe no banco")
-    void createTask_memberLogadoNotFound() {
-
-        when(authentication.getName()).thenReturn("admin@example.com");
-        when(memberRepository.findByEmail(anyString()))
-                .thenReturn(Optional.empty());
-
         TaskRequest request = buildRequest();
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(request));
+        assertThrows(AccessDeniedException.class, () -> taskService.createTask(request, memberLogado));
+        verifyNoInteractions(memberRepository, taskRepository);
     }
 
     @Test
     @DisplayName("Deve lançar erro quando o assignee não existe")
     void createTask_assigneeNotFound() {
 
-        when(authentication.getName()).thenReturn(memberLogado.getEmail());
-        when(memberRepository.findByEmail(memberLogado.getEmail()))
-                .thenReturn(Optional.of(memberLogado));
-
         when(memberRepository.findById(any(UUID.class)))
                 .thenReturn(Optional.empty());
 
         TaskRequest request = buildRequest();
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(request));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.createTask(request, memberLogado));
     }
 
     @Test
@@ -170,16 +150,12 @@ class TaskServiceTest {
 
         assignee.setStatus(MemberStatus.INACTIVE);
 
-        when(authentication.getName()).thenReturn(memberLogado.getEmail());
-        when(memberRepository.findByEmail(memberLogado.getEmail()))
-                .thenReturn(Optional.of(memberLogado));
-
         when(memberRepository.findById(assignee.getId()))
                 .thenReturn(Optional.of(assignee));
 
         TaskRequest request = buildRequest();
 
-        assertThrows(IllegalStateException.class, () -> taskService.createTask(request));
+        assertThrows(IllegalStateException.class, () -> taskService.createTask(request, memberLogado));
     }
 
     @Test
@@ -207,6 +183,8 @@ class TaskServiceTest {
 
         when(taskRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(taskPage);
+        when(taskRepository.findTagsByTaskIds(List.of(task.getId())))
+                .thenReturn(List.of(new TaskTag(task.getId(), "backend")));
 
         Page<TaskResponse> result = taskService.filter(
                 "Teste",
@@ -218,6 +196,7 @@ class TaskServiceTest {
                 LocalDate.now(),
                 LocalDate.now().plusDays(1),
                 false,
+                null, FilterMatch.ALL,
                 pageable
         );
 
@@ -230,8 +209,57 @@ class TaskServiceTest {
         assertEquals(task.getTitle(), response.title());
         assertEquals(task.getProject(), response.project());
         assertEquals(task.getAssignee().getName(), response.assignee().name());
+        assertEquals(List.of("backend"), response.tags());
 
         verify(taskRepository, times(1))
                 .findAll(any(Specification.class), eq(pageable));
+        verify(taskRepository, times(1)).findTagsByTaskIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Tarefa sem responsável não deve quebrar o filtro")
+    void filterTasks_withoutAssignee() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Sem responsável");
+
+        when(taskRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(task)));
+
+        Page<TaskResponse> result = taskService.filter(null, null, null, null, null, null, null, null, null, null, FilterMatch.ALL, pageable);
+
+        TaskResponse response = result.getContent().get(0);
+        assertNull(response.assignee());
+        assertNull(response.createdBy());
+        assertTrue(response.tags().isEmpty());
+    }
+
+    @Test
+    @DisplayName("MEMBER não pode excluir tarefa e nenhuma consulta é feita")
+    void deleteTask_accessDenied() {
+        memberLogado.setRole(Role.MEMBER);
+
+        UUID taskId = UUID.randomUUID();
+
+        assertThrows(AccessDeniedException.class, () -> taskService.deleteTask(taskId, memberLogado));
+        verifyNoInteractions(memberRepository, taskRepository);
+    }
+
+    @Test
+    @DisplayName("MANAGER deve conseguir excluir tarefa")
+    void deleteTask_success_manager() throws Exception {
+        memberLogado.setRole(Role.MANAGER);
+
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+
+        taskService.deleteTask(task.getId(), memberLogado);
+
+        verify(taskRepository).delete(task);
+        verifyNoInteractions(memberRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.ustore.teammanagement.core.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final Instant START = Instant.parse("2026-01-10T00:00:00Z");
+
+    @Test
+    @DisplayName("Timer deve disparar só quando o tick do prazo passar")
+    void shouldFireOnDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, START);
+        wheel.schedule("a", START.plusSeconds(3));
+        wheel.schedule("b", START.plusSeconds(5));
+
+        assertEquals(List.of(), wheel.advance(START.plusSeconds(2)));
+        assertEquals(List.of("a"), wheel.advance(START.plusSeconds(3)));
+        assertEquals(List.of("b"), wheel.advance(START.plusSeconds(10)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Timer com prazo a mais de uma volta deve esperar as voltas da roda")
+    void shouldKeepTimersBeyondOneRevolution() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, START);
+        // mesmo bucket do tick 2, três voltas depois
+        wheel.schedule("longe", START.plusSeconds(26));
+
+        for (int second = 1; second < 26; second++) {
+            assertEquals(List.of(), wheel.advance(START.plusSeconds(second)));
+        }
+        assertEquals(List.of("longe"), wheel.advance(START.plusSeconds(26)));
+    }
+
+    @Test
+    @DisplayName("Reagendar substitui o timer e cancelar remove da roda")
+    void shouldRescheduleAndCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, START);
+        wheel.schedule("a", START.plusSeconds(2));
+        wheel.schedule("a", START.plusSeconds(6));
+        wheel.schedule("b", START.plusSeconds(2));
+
+        assertTrue(wheel.cancel("b"));
+        assertFalse(wheel.cancel("b"));
+        assertEquals(List.of(), wheel.advance(START.plusSeconds(4)));
+        assertEquals(List.of("a"), wheel.advance(START.plusSeconds(6)));
+    }
+
+    @Test
+    @DisplayName("Prazo já vencido dispara no próximo avanço")
+    void shouldFirePastDeadlineOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 8, START);
+        wheel.schedule("atrasada", START.minusSeconds(60));
+
+        assertEquals(List.of("atrasada"), wheel.advance(START.plusSeconds(1)));
+    }
+}
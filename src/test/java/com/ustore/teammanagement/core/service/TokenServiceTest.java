@@ -3,23 +3,21 @@ package com.ustore.teammanagement.core.service;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.ustore.teammanagement.core.entity.Member;
-import com.ustore.teammanagement.core.repository.MemberRepository;
-import com.ustore.teammanagement.exceptions.UserNotFoundException;
+import com.ustore.teammanagement.core.enums.MemberStatus;
+import com.ustore.teammanagement.core.enums.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
 
 public class TokenServiceTest {
 
-    private MemberRepository memberRepository;
     private TokenService tokenService;
     private Member member;
 
@@ -27,8 +25,7 @@ public class TokenServiceTest {
 
     @BeforeEach
     void setup() {
-        memberRepository = Mockito.mock(MemberRepository.class);
-        tokenService = new TokenService(memberRepository);
+        tokenService = new TokenService();
 
         ReflectionTestUtils.setField(tokenService, "securityJwt", SECRET);
 
@@ -65,57 +62,74 @@ public class TokenServiceTest {
     }
 
     @Test
-    @DisplayName("Deve lançar erro ao extrair subject de token inválido")
-    void getSubject_invalidToken() {
-        assertThrows(Exception.class, () -> tokenService.getSubject("invalid-token-123"));
-    }
-
-    @Test
-    @DisplayName("Deve gerar refresh token válido")
-    void generateRefreshToken_success() {
-        String refreshToken = tokenService.generateRefreshToken(member);
+    @DisplayName("Deve montar o principal a partir dos claims do token, sem consultar o banco")
+    void toPrincipal_fromClaims() {
+        member.setRole(Role.MANAGER);
+        member.setStatus(MemberStatus.ACTIVE);
+        member.setTokenVersion(3);
 
-        assertNotNull(refreshToken);
+        String token = tokenService.generateToken(member);
 
-        var jwt = JWT.require(Algorithm.HMAC256(SECRET))
-                .withIssuer("Team Management App")
-                .withClaim("type", "refresh")
-                .build()
-                .verify(refreshToken);
+        Member principal = tokenService.toPrincipal(tokenService.verifyAccessToken(token));
 
-        assertEquals("user@example.com", jwt.getSubject());
+        assertEquals(member.getId(), principal.getId());
+        assertEquals("user@example.com", principal.getEmail());
+        assertEquals("User Test", principal.getName());
+        assertEquals(Role.MANAGER, principal.getRole());
+        assertEquals(MemberStatus.ACTIVE, principal.getStatus());
+        assertEquals(3, principal.getTokenVersion());
     }
 
     @Test
-    @DisplayName("Deve gerar novo access token ao fornecer refresh token válido")
-    void refreshAccessToken_success() {
-        String refreshToken = JWT.create()
+    @DisplayName("Deve rejeitar token de acesso sem os claims do membro")
+    void toPrincipal_missingClaims() {
+        String legacyToken = JWT.create()
                 .withIssuer("Team Management App")
                 .withSubject("user@example.com")
-                .withClaim("type", "refresh")
+                .withClaim("type", "access")
                 .sign(Algorithm.HMAC256(SECRET));
 
-        when(memberRepository.findByEmail("user@example.com"))
-                .thenReturn(Optional.of(member));
+        var decoded = tokenService.verifyAccessToken(legacyToken);
 
-        String newAccessToken = tokenService.refreshAccessToken(refreshToken);
+        assertThrows(IllegalArgumentException.class, () -> tokenService.toPrincipal(decoded));
+    }
 
-        assertNotNull(newAccessToken);
+    @Test
+    @DisplayName("Deve lançar erro ao extrair subject de token inválido")
+    void getSubject_invalidToken() {
+        assertThrows(Exception.class, () -> tokenService.getSubject("invalid-token-123"));
     }
 
     @Test
-    @DisplayName("Deve lançar erro se o e-mail do refresh token não existir")
-    void refreshAccessToken_userNotFound() {
-        String refreshToken = JWT.create()
-                .withIssuer("Team Management App")
-                .withSubject("notfound@example.com")
-                .withClaim("type", "refresh")
-                .sign(Algorithm.HMAC256(SECRET));
+    @DisplayName("Deve gerar refresh token com família, identificador e claims do membro")
+    void generateRefreshToken_success() {
+        member.setRole(Role.MEMBER);
+        member.setStatus(MemberStatus.ACTIVE);
+        UUID familyId = UUID.randomUUID();
+        UUID tokenId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+
+        String refreshToken = tokenService.generateRefreshToken(member, familyId, tokenId, expiresAt);
+
+        var jwt = tokenService.verifyRefreshToken(refreshToken);
 
-        when(memberRepository.findByEmail("notfound@example.com"))
-                .thenReturn(Optional.empty());
+        assertEquals("user@example.com", jwt.getSubject());
+        assertEquals(familyId, tokenService.refreshFamilyId(jwt));
+        assertEquals(tokenId, tokenService.refreshTokenId(jwt));
+        assertEquals(expiresAt, jwt.getExpiresAtAsInstant());
+        assertEquals(member.getId(), tokenService.toPrincipal(jwt).getId());
+    }
 
-        assertThrows(UserNotFoundException.class,
-                () -> tokenService.refreshAccessToken(refreshToken));
+    @Test
+    @DisplayName("Refresh token não deve ser aceito como access token e vice-versa")
+    void refreshAndAccessTokensAreNotInterchangeable() {
+        member.setRole(Role.MEMBER);
+        member.setStatus(MemberStatus.ACTIVE);
+        String refreshToken = tokenService.generateRefreshToken(member, UUID.randomUUID(), UUID.randomUUID(),
+                Instant.now().plus(1, ChronoUnit.DAYS));
+        String accessToken = tokenService.generateToken(member);
+
+        assertThrows(Exception.class, () -> tokenService.verifyAccessToken(refreshToken));
+        assertThrows(Exception.class, () -> tokenService.verifyRefreshToken(accessToken));
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.ustore.teammanagement.core.service;
 import com.ustore.teammanagement.core.entity.Member;
 import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.exceptions.UserNotFoundException;
+import com.ustore.teammanagement.security.LoginThrottle;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +17,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +26,9 @@ class UserDetailServiceImplTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private UserDetailServiceImpl userDetailService;
 
@@ -48,6 +53,7 @@ class UserDetailServiceImplTest {
         assertEquals("encoded-password", result.getPassword());
 
         verify(memberRepository).findByEmail(email);
+        verify(loginThrottle).resolved(member);
     }
 
     @Test
@@ -67,5 +73,6 @@ class UserDetailServiceImplTest {
         assertEquals("User not found with email: " + email, exception.getMessage());
 
         verify(memberRepository).findByEmail(email);
+        verifyNoInteractions(loginThrottle);
     }
 }
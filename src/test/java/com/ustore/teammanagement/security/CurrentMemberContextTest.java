@@ -0,0 +1,48 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrentMemberContextTest {
+
+    private final CurrentMemberContext currentMemberContext = new CurrentMemberContext();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve retornar o membro autenticado pelo filtro")
+    void shouldReturnAuthenticatedMember() {
+        Member member = new Member();
+        member.setId(UUID.randomUUID());
+        member.setEmail("user@test.com");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(member, null, List.of()));
+
+        assertSame(member, currentMemberContext.get());
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro quando não há membro autenticado")
+    void shouldThrowWhenNoMemberIsAuthenticated() {
+        assertThrows(ResourceNotFoundException.class, currentMemberContext::get);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("anonymous", null, List.of()));
+
+        assertThrows(ResourceNotFoundException.class, currentMemberContext::get);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginExecutor loginExecutor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginExecutor = new LoginExecutor(1, 1, 5000, 3, meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve executar a verificação e registrar a latência")
+    void shouldRunVerificationAndRecordLatency() {
+        String result = loginExecutor.execute(() -> "ok");
+
+        assertEquals("ok", result);
+        assertEquals(1, meterRegistry.get("auth.login.verify").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar na hora com Retry-After quando pool e fila estão cheios")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        callers.submit(() -> loginExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "primeiro";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        callers.submit(() -> loginExecutor.execute(() -> "na fila"));
+        waitForQueueDepth(1);
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> loginExecutor.execute(() -> "recusado"));
+
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.login.queue.depth").gauge().value());
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção original da verificação")
+    void shouldPropagateOriginalException() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> loginExecutor.execute(() -> {
+                    throw new IllegalArgumentException("senha inválida");
+                }));
+
+        assertEquals("senha inválida", ex.getMessage());
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (loginExecutor.queueDepth() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, loginExecutor.queueDepth());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.repository.MemberRepository;
+import com.ustore.teammanagement.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(memberRepository, 640, 3, 1, 100, 1, 3, 15, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve recusar tentativas acima da capacidade do email com Retry-After")
+    void shouldRejectWhenEmailBucketIsEmpty() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("User@Test.com", "10.0.0." + i);
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> throttle.acquire("user@test.com", "10.0.0.9"));
+
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertEquals(1.0, meterRegistry.get("auth.login.throttle.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve bloquear o email após falhas seguidas e gravar o estado uma única vez no flush")
+    void shouldLockAfterFailuresAndWriteInBatch() {
+        throttle.resolved(member("user@test.com"));
+        throttle.recordFailure("user@test.com");
+        throttle.recordFailure("user@test.com");
+        throttle.recordFailure("user@test.com");
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("user@test.com", "10.0.0.1"));
+        verifyNoInteractions(memberRepository);
+        assertEquals(1, throttle.pendingWrites());
+
+        throttle.flush();
+
+        verify(memberRepository, times(1))
+                .updateLockState(eq("user@test.com"), eq(3), eq(true), any(LocalDateTime.class));
+        assertEquals(0, throttle.pendingWrites());
+    }
+
+    @Test
+    @DisplayName("Tentativa recusada pelo IP não deve gastar a cota do email")
+    void shouldNotConsumeEmailWhenIpIsExhausted() {
+        throttle = new LoginThrottle(memberRepository, 640, 3, 1, 1, 1, 3, 15, meterRegistry);
+        throttle.acquire("outro@test.com", "10.0.0.1");
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(TooManyRequestsException.class, () -> throttle.acquire("user@test.com", "10.0.0.1"));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("user@test.com", "10.0.1." + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Bloqueio com a fila de escritas cheia deve ser gravado na hora")
+    void shouldWriteLockImmediatelyWhenPendingWritesAreFull() {
+        throttle = new LoginThrottle(memberRepository, 2, 3, 1, 100, 1, 3, 15, meterRegistry);
+        for (String email : new String[]{"a@test.com", "b@test.com", "c@test.com"}) {
+            throttle.resolved(member(email));
+        }
+        throttle.recordFailure("a@test.com");
+        throttle.recordFailure("b@test.com");
+
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("c@test.com");
+        }
+
+        assertEquals(2, throttle.pendingWrites());
+        verify(memberRepository, times(1))
+                .updateLockState(eq("c@test.com"), eq(3), eq(true), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Login com sucesso deve zerar as falhas gravadas")
+    void shouldResetPersistedFailuresOnSuccess() {
+        Member member = member("user@test.com");
+        member.setFailedAttempts(2);
+
+        throttle.resolved(member);
+        throttle.recordFailure("user@test.com");
+        throttle.recordSuccess(member);
+        throttle.flush();
+
+        verify(memberRepository, times(1)).updateLockState("user@test.com", 0, false, null);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nada quando o membro não tinha falhas")
+    void shouldSkipWriteWhenNothingChanged() {
+        throttle.recordSuccess(member("user@test.com"));
+        throttle.flush();
+
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("Tentativas com maiúsculas devem gerar uma única escrita com o email do membro")
+    void shouldWriteOnceForMixedCaseAttempts() {
+        throttle.resolved(member("user@test.com"));
+        throttle.recordFailure("User@Test.com");
+        throttle.recordFailure("USER@test.com ");
+        throttle.recordFailure("user@test.com");
+
+        assertEquals(1, throttle.pendingWrites());
+        throttle.flush();
+
+        verify(memberRepository, times(1))
+                .updateLockState(eq("user@test.com"), eq(3), eq(true), any(LocalDateTime.class));
+        verifyNoMoreInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("Falhas de emails sem membro devem bloquear só em memória, sem escritas")
+    void shouldNotQueueWritesForUnknownEmails() {
+        for (int i = 0; i < 100; i++) {
+            throttle.recordFailure("ghost" + i + "@test.com");
+        }
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("ghost@test.com");
+        }
+
+        assertEquals(0, throttle.pendingWrites());
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("ghost@test.com", "10.0.0.1"));
+        throttle.flush();
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("Deve manter a quantidade de chaves limitada")
+    void shouldStayBounded() {
+        for (int i = 0; i < 10_000; i++) {
+            throttle.acquire("user" + i + "@test.com", "10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        assertTrue(throttle.size() <= 640);
+    }
+
+    private static Member member(String email) {
+        Member member = new Member();
+        member.setEmail(email);
+        return member;
+    }
+}
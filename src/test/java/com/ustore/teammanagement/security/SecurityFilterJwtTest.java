@@ -1,7 +1,7 @@
 package com.ustore.teammanagement.security;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.ustore.teammanagement.core.entity.Member;
-import com.ustore.teammanagement.core.repository.MemberRepository;
 import com.ustore.teammanagement.core.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,7 +15,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,7 +28,10 @@ class SecurityFilterJwtTest {
     private TokenService tokenService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private VerifiedTokenCache tokenCache;
+
+    @Mock
+    private TokenVersionRegistry tokenVersions;
 
     @Mock
     private HttpServletRequest request;
@@ -75,28 +80,78 @@ class SecurityFilterJwtTest {
         when(request.getMethod()).thenReturn("GET");
         when(request.getHeader("Authorization")).thenReturn("Bearer abc123");
 
-        when(tokenService.getSubject("abc123")).thenReturn("user@test.com");
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        DecodedJWT decodedJWT = mock(DecodedJWT.class);
+        when(decodedJWT.getExpiresAtAsInstant()).thenReturn(expiresAt);
+        when(tokenCache.get("abc123")).thenReturn(Optional.empty());
+        when(tokenService.verifyAccessToken("abc123")).thenReturn(decodedJWT);
 
         Member member = new Member();
+        member.setId(UUID.randomUUID());
         member.setEmail("user@test.com");
 
-        when(memberRepository.findByEmail("user@test.com")).thenReturn(Optional.of(member));
+        when(tokenService.toPrincipal(decodedJWT)).thenReturn(member);
+        when(tokenVersions.isCurrent(member.getId(), 0)).thenReturn(true);
 
         securityFilterJwt.doFilterInternal(request, response, filterChain);
 
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(member, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
 
+        verify(tokenCache, times(1)).put("abc123", member, expiresAt);
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void mustAuthenticateFromCacheWithoutVerifyingTokenAgain() throws Exception {
+        when(request.getRequestURI()).thenReturn("/tasks");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getHeader("Authorization")).thenReturn("Bearer abc123");
+
+        Member member = new Member();
+        member.setId(UUID.randomUUID());
+        member.setEmail("user@test.com");
+
+        when(tokenCache.get("abc123")).thenReturn(Optional.of(member));
+        when(tokenVersions.isCurrent(member.getId(), 0)).thenReturn(true);
+
+        securityFilterJwt.doFilterInternal(request, response, filterChain);
+
+        assertEquals(member, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+
+        verifyNoInteractions(tokenService);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
+    @Test
+    void shouldReturn401WhenTokenVersionWasRevoked() throws Exception {
+        when(request.getRequestURI()).thenReturn("/tasks");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getHeader("Authorization")).thenReturn("Bearer abc123");
+
+        Member member = new Member();
+        member.setId(UUID.randomUUID());
+        member.setEmail("user@test.com");
+
+        when(tokenCache.get("abc123")).thenReturn(Optional.of(member));
+        when(tokenVersions.isCurrent(member.getId(), 0)).thenReturn(false);
+
+        securityFilterJwt.doFilterInternal(request, response, filterChain);
+
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(tokenCache).evict("abc123");
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
     @Test
     void shouldReturn401WhenTokenInvalid() throws Exception {
         when(request.getRequestURI()).thenReturn("/tasks");
         when(request.getMethod()).thenReturn("GET");
         when(request.getHeader("Authorization")).thenReturn("Bearer token_ruim");
 
-        when(tokenService.getSubject("token_ruim")).thenThrow(new RuntimeException("Token inválido"));
+        when(tokenCache.get("token_ruim")).thenReturn(Optional.empty());
+        when(tokenService.verifyAccessToken("token_ruim")).thenThrow(new RuntimeException("Token inválido"));
 
         securityFilterJwt.doFilterInternal(request, response, filterChain);
 
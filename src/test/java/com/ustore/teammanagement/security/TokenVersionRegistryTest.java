@@ -0,0 +1,90 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import com.ustore.teammanagement.core.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionRegistryTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private TokenVersionRegistry registry;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenVersionRegistry(memberRepository, 300);
+
+        member = new Member();
+        member.setId(UUID.randomUUID());
+        member.setTokenVersion(2);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez por membro dentro do TTL")
+    void shouldLoadVersionOnceWithinTtl() {
+        when(memberRepository.findTokenVersionById(member.getId())).thenReturn(Optional.of(2));
+
+        assertTrue(registry.isCurrent(member.getId(), 2));
+        assertTrue(registry.isCurrent(member.getId(), 2));
+        assertFalse(registry.isCurrent(member.getId(), 1));
+
+        verify(memberRepository, times(1)).findTokenVersionById(member.getId());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco para membro registrado no login")
+    void shouldNotQueryWhenRemembered() {
+        registry.remember(member);
+
+        assertTrue(registry.isCurrent(member.getId(), 2));
+
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("Revogar deve incrementar a versão e invalidar tokens anteriores")
+    void shouldRevokePreviousTokens() {
+        registry.remember(member);
+
+        registry.revoke(member);
+
+        assertEquals(3, member.getTokenVersion());
+        assertFalse(registry.isCurrent(member.getId(), 2));
+        assertTrue(registry.isCurrent(member.getId(), 3));
+    }
+
+    @Test
+    @DisplayName("Esquecer deve reler a versão incrementada direto no banco")
+    void shouldReloadVersionAfterForget() {
+        registry.remember(member);
+        when(memberRepository.findTokenVersionById(member.getId())).thenReturn(Optional.of(3));
+
+        registry.forget(member.getId());
+
+        assertFalse(registry.isCurrent(member.getId(), 2));
+        assertTrue(registry.isCurrent(member.getId(), 3));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token de membro inexistente")
+    void shouldRejectUnknownMember() {
+        UUID unknown = UUID.randomUUID();
+        when(memberRepository.findTokenVersionById(unknown)).thenReturn(Optional.empty());
+
+        assertFalse(registry.isCurrent(unknown, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ustore.teammanagement.security;
+
+import com.ustore.teammanagement.core.entity.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(3, meterRegistry);
+
+        member = new Member();
+        member.setId(UUID.randomUUID());
+        member.setEmail("user@test.com");
+    }
+
+    @Test
+    @DisplayName("Deve retornar o membro em cache e contabilizar hit/miss")
+    void shouldReturnCachedMemberAndCountHitsAndMisses() {
+        assertTrue(cache.get("token-a").isEmpty());
+
+        cache.put("token-a", member, Instant.now().plusSeconds(3600));
+        Optional<Member> cached = cache.get("token-a");
+
+        assertTrue(cached.isPresent());
+        assertEquals(member, cached.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(1.0, meterRegistry.get("auth.token.cache.hits").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("auth.token.cache.misses").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar nem retornar tokens já expirados")
+    void shouldIgnoreExpiredTokens() {
+        cache.put("expired", member, Instant.now().minusSeconds(1));
+
+        assertEquals(0, cache.size());
+        assertTrue(cache.get("expired").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas o token informado")
+    void shouldEvictSingleToken() {
+        cache.put("token-a", member, Instant.now().plusSeconds(3600));
+        cache.put("token-b", member, Instant.now().plusSeconds(3600));
+
+        cache.evict("token-a");
+
+        assertTrue(cache.get("token-a").isEmpty());
+        assertTrue(cache.get("token-b").isPresent());
+    }
+
+    @Test
+    @DisplayName("Não deve ultrapassar o limite de entradas")
+    void shouldStayBounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.put("token-" + i, member, Instant.now().plusSeconds(3600));
+        }
+
+        assertTrue(cache.size() <= 3);
+        assertTrue(cache.get("token-9").isPresent());
+    }
+}